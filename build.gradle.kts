@@ -24,6 +24,8 @@ dependencies {
     implementation("org.openrewrite.recipe:rewrite-jackson:${rewriteVersion}")
     implementation("org.openrewrite.recipe:rewrite-java-dependencies:${rewriteVersion}")
     implementation("org.openrewrite.recipe:rewrite-migrate-java:${rewriteVersion}")
+    // provided at runtime by rewrite-core, whose version the compile classpath follows
+    compileOnly("io.micrometer:micrometer-core")
 
     runtimeOnly("org.openrewrite:rewrite-java-8")
     runtimeOnly("org.openrewrite:rewrite-java-21")
@@ -43,12 +45,10 @@ recipeDependencies {
     parserClasspath("io.micronaut:micronaut-http:2.+")
     parserClasspath("io.micronaut:micronaut-http-server:2.+")
     parserClasspath("io.micronaut:micronaut-http-server-netty:2.+")
-    parserClasspath("io.micronaut:micronaut-http-client:2.+")
     parserClasspath("io.micronaut:micronaut-http-client-core:2.+")
     parserClasspath("javax.inject:javax.inject:1")
     parserClasspath("jakarta.inject:jakarta.inject-api:2.+")
     parserClasspath("org.reactivestreams:reactive-streams:1.0.4")
-    parserClasspath("io.projectreactor:reactor-core:3.4.39")
 
     parserClasspath("io.micronaut:micronaut-context:4.0.0")
     parserClasspath("io.micronaut:micronaut-websocket:4.0.0")
@@ -76,3 +76,29 @@ recipeDependencies {
     parserClasspath("javax.transaction:javax.transaction-api:1.3")
     parserClasspath("jakarta.transaction:jakarta.transaction-api:2.0.1")
 }
+
+java {
+    consistentResolution {
+        useRuntimeClasspathVersions()
+    }
+}
+
+tasks.named<Test>("test") {
+    useJUnitPlatform {
+        excludeTags("allocation")
+    }
+}
+
+val allocationTest by tasks.registering(Test::class) {
+    description = "Checks the bytes the busiest recipes allocate per source file against their measured budgets."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("allocation")
+    }
+    systemProperty("allocation.budgets.record", project.hasProperty("recordAllocationBudgets"))
+    systemProperty("allocation.budgets.required", project.hasProperty("requireAllocationBudgets"))
+    systemProperty("allocation.budgets.file", file("src/test/resources/allocation-budgets.properties").absolutePath)
+    outputs.upToDateWhen { false }
+}
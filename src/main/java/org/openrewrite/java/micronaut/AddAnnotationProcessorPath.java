@@ -22,7 +22,6 @@ import org.openrewrite.*;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.JavaSourceFile;
 import org.openrewrite.maven.MavenIsoVisitor;
-import org.openrewrite.maven.MavenVisitor;
 import org.openrewrite.xml.AddToTagVisitor;
 import org.openrewrite.xml.XPathMatcher;
 import org.openrewrite.xml.tree.Xml;
@@ -67,7 +66,7 @@ public class AddAnnotationProcessorPath extends ScanningRecipe<AddAnnotationProc
     String description = "Add the groupId, artifactId, version, and exclusions of a Maven annotation processor path.";
 
     public static class Scanned {
-        boolean usingType;
+        volatile boolean usingType;
     }
 
     @Override
@@ -82,8 +81,10 @@ public class AddAnnotationProcessorPath extends ScanningRecipe<AddAnnotationProc
             public Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
                 SourceFile sourceFile = (SourceFile) requireNonNull(tree);
                 if (tree instanceof JavaSourceFile) {
-                    boolean sourceFileUsesType = sourceFile != new UsesType<>(onlyIfUsing, true).visit(sourceFile, ctx);
-                    acc.usingType |= sourceFileUsesType;
+                    // only ever set, never reset, so that concurrent scans cannot lose a match
+                    if (!acc.usingType && sourceFile != new UsesType<>(onlyIfUsing, true).visit(sourceFile, ctx)) {
+                        acc.usingType = true;
+                    }
                 }
                 return sourceFile;
             }
@@ -92,76 +93,67 @@ public class AddAnnotationProcessorPath extends ScanningRecipe<AddAnnotationProc
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Scanned acc) {
-        return Preconditions.check(acc.usingType, new MavenVisitor<ExecutionContext>() {
-            @Override
-            public Xml visitDocument(Xml.Document document, ExecutionContext ctx) {
-                return new CheckAnnotationProcessorPathVisitor().visitNonNull(document, ctx);
-            }
-        });
+        return Preconditions.check(acc.usingType, new AddAnnotationProcessorPathVisitor());
     }
 
-    private class CheckAnnotationProcessorPathVisitor extends MavenIsoVisitor<ExecutionContext> {
+    private Xml.Tag buildPathTag() {
+        return Xml.Tag.build(
+                "\n<path>\n" +
+                        "<groupId>" + groupId + "</groupId>\n" +
+                        "<artifactId>" + artifactId + "</artifactId>\n" +
+                        "<version>" + version + "</version>\n" +
+                        (exclusions == null ? "" : "<exclusions>\n" + MavenExclusions.buildContent(exclusions) + "</exclusions>") +
+                        "</path>"
+        );
+    }
 
-        private final XPathMatcher ANNOTATION_PROCESSOR_PATH_MATCHER = new XPathMatcher("/project/build/plugins/plugin/configuration/annotationProcessorPaths/path");
+    private class AddAnnotationProcessorPathVisitor extends MavenIsoVisitor<ExecutionContext> {
 
-        @Override
-        public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
-            if (ANNOTATION_PROCESSOR_PATH_MATCHER.matches(getCursor()) &&
-                    groupId.equals(tag.getChildValue("groupId").orElse(null)) &&
-                    artifactId.equals(tag.getChildValue("artifactId").orElse(null))) {
-                getCursor().putMessageOnFirstEnclosing(Xml.Document.class, "alreadyHasAnnotationProcessor", true);
-                return tag;
-            }
-            return super.visitTag(tag, ctx);
-        }
+        private final XPathMatcher ANNOTATION_PROCESSOR_PATHS_MATCHER = new XPathMatcher("/project/build/plugins/plugin/configuration/annotationProcessorPaths");
 
         @Override
         public Xml.Document visitDocument(Xml.Document document, ExecutionContext ctx) {
-            Xml.Document maven = super.visitDocument(document, ctx);
-
-            if (getCursor().getMessage("alreadyHasAnnotationProcessor", false)) {
+            if (hasAnnotationProcessorPath(document.getRoot())) {
                 return document;
             }
-
-            doAfterVisit(new InsertAnnotationProcessorPath());
-
-            return maven;
+            return super.visitDocument(document, ctx);
         }
-    }
-
-    private class InsertAnnotationProcessorPath extends MavenIsoVisitor<ExecutionContext> {
-
-        private final XPathMatcher ANNOTATION_PROCESSOR_PATHS_MATCHER = new XPathMatcher("/project/build/plugins/plugin/configuration/annotationProcessorPaths");
 
         @Override
         public Xml.Tag visitTag(Xml.Tag tag, ExecutionContext ctx) {
             if (ANNOTATION_PROCESSOR_PATHS_MATCHER.matches(getCursor())) {
-                Xml.Tag pathTag = Xml.Tag.build(
-                        "\n<path>\n" +
-                                "<groupId>" + groupId + "</groupId>\n" +
-                                "<artifactId>" + artifactId + "</artifactId>\n" +
-                                "<version>" + version + "</version>\n" +
-                                buildExclusionsContent() +
-                                "</path>"
-                );
-
-                doAfterVisit(new AddToTagVisitor<>(tag, pathTag));
-
-                maybeUpdateModel();
-
-                return tag;
+                // parsed only for poms that need the path, and once per insertion so that no two trees share its ids
+                Xml.Tag annotationProcessorPaths = AddToTagVisitor.addToTag(tag, buildPathTag(), getCursor().getParentOrThrow());
+                if (!ApplyDeferredMavenModelUpdates.deferModelUpdate(getCursor())) {
+                    maybeUpdateModel();
+                }
+                return annotationProcessorPaths;
             }
             return super.visitTag(tag, ctx);
         }
 
-        private String buildExclusionsContent() {
-            if (exclusions == null) {
-                return "";
+        /**
+         * Walks down to the annotation processor paths directly, so detecting an existing path
+         * takes no traversal of the whole pom.
+         */
+        private boolean hasAnnotationProcessorPath(Xml.Tag project) {
+            for (Xml.Tag build : project.getChildren("build")) {
+                for (Xml.Tag plugins : build.getChildren("plugins")) {
+                    for (Xml.Tag plugin : plugins.getChildren("plugin")) {
+                        for (Xml.Tag configuration : plugin.getChildren("configuration")) {
+                            for (Xml.Tag annotationProcessorPaths : configuration.getChildren("annotationProcessorPaths")) {
+                                for (Xml.Tag path : annotationProcessorPaths.getChildren("path")) {
+                                    if (groupId.equals(path.getChildValue("groupId").orElse(null)) &&
+                                            artifactId.equals(path.getChildValue("artifactId").orElse(null))) {
+                                        return true;
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
             }
-            return "<exclusions>\n" +
-                    MavenExclusions.buildContent(exclusions) +
-                    "</exclusions>";
+            return false;
         }
     }
-
 }
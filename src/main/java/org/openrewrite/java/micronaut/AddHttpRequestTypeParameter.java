@@ -62,7 +62,7 @@ public class AddHttpRequestTypeParameter extends Recipe {
                 J.ClassDeclaration c = super.visitClassDeclaration(classDecl, ctx);
                 List<TypeTree> mappedInterfaceTypes = ListUtils.map(c.getImplements(), interfaceType -> {
                     JavaType.FullyQualified fqInterfaceType = (JavaType.FullyQualified) interfaceType.getType();
-                    if (fqInterfaceType != null && isCandidateInterface(fqInterfaceType)) {
+                    if (fqInterfaceType != null && isCandidateInterface(fqInterfaceType, ctx)) {
                         JavaType httpRequestType = JavaType.buildType(IO_MICRONAUT_HTTP_HTTP_REQUEST);
                         J.Identifier httpRequestIdentifier = new J.Identifier(Tree.randomId(), Space.EMPTY, Markers.EMPTY, emptyList(), "HttpRequest", httpRequestType, null);
                         J.ParameterizedType httpRequestParameterized = new J.ParameterizedType(Tree.randomId(), Space.EMPTY, Markers.EMPTY, httpRequestIdentifier,
@@ -76,10 +76,13 @@ public class AddHttpRequestTypeParameter extends Recipe {
                 return c.withImplements(mappedInterfaceTypes);
             }
 
-            private boolean isCandidateInterface(JavaType.FullyQualified fqInterfaceType) {
+            private boolean isCandidateInterface(JavaType.FullyQualified fqInterfaceType, ExecutionContext ctx) {
                 if (CANDIDATE_INTERFACES.contains(fqInterfaceType.getFullyQualifiedName())) {
                     for (JavaType javaType : fqInterfaceType.getTypeParameters()) {
-                        if (TypeUtils.isAssignableTo(IO_MICRONAUT_HTTP_HTTP_REQUEST, javaType)) {
+                        JavaType.FullyQualified fqTypeParameter = TypeUtils.asFullyQualified(javaType);
+                        if (fqTypeParameter != null ?
+                                TypeHierarchyIndex.get(ctx).isSubtypeOf(fqTypeParameter, IO_MICRONAUT_HTTP_HTTP_REQUEST) :
+                                TypeUtils.isAssignableTo(IO_MICRONAUT_HTTP_HTTP_REQUEST, javaType)) {
                             return false;
                         }
                     }
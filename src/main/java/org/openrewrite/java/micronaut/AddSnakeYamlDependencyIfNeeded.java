@@ -42,8 +42,9 @@ public class AddSnakeYamlDependencyIfNeeded extends ScanningRecipe<AddSnakeYamlD
             @Override
             public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
                 if (tree instanceof SourceFile) {
-                    if (!acc.usesYamlConfig) {
-                        acc.usesYamlConfig = tree != new FindYamlConfig().getVisitor().visit(tree, ctx);
+                    // only ever set, never reset, so that concurrent scans cannot lose a match
+                    if (!acc.usesYamlConfig && tree != new FindYamlConfig().getVisitor().visit(tree, ctx)) {
+                        acc.usesYamlConfig = true;
                     }
                     TreeVisitor<?, ExecutionContext> addDependencyScanner = addDependencyRecipe.getScanner(acc.getAddDependencyAccumulator());
                     if (addDependencyScanner.isAcceptable((SourceFile) tree, ctx)) {
@@ -69,7 +70,7 @@ public class AddSnakeYamlDependencyIfNeeded extends ScanningRecipe<AddSnakeYamlD
     @AllArgsConstructor
     @Data
     public static class Accumulator {
-        boolean usesYamlConfig;
+        volatile boolean usesYamlConfig;
         AddDependency.Accumulator addDependencyAccumulator;
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A set of annotation types to match annotations against by their fully qualified name. Resolving the type of an
+ * annotation once and looking it up in a hash set replaces trying a list of argument-less {@code AnnotationMatcher}s
+ * one after another.
+ */
+final class AnnotationTypes {
+    private final Set<String> fullyQualifiedNames;
+
+    AnnotationTypes(String... fullyQualifiedNames) {
+        this.fullyQualifiedNames = new HashSet<>(Arrays.asList(fullyQualifiedNames));
+    }
+
+    boolean matches(J.Annotation annotation) {
+        JavaType.FullyQualified type = TypeUtils.asFullyQualified(annotation.getType());
+        return type != null && fullyQualifiedNames.contains(type.getFullyQualifiedName());
+    }
+}
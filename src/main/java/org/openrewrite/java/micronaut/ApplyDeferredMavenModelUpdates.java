@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import lombok.Data;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.maven.MavenVisitor;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.xml.tree.Xml;
+
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ApplyDeferredMavenModelUpdates extends ScanningRecipe<ApplyDeferredMavenModelUpdates.Accumulator> {
+
+    private static final String DEFERRED_MODEL_UPDATES = "org.openrewrite.java.micronaut.deferredMavenModelUpdates";
+
+    @Getter
+    final String displayName = "Apply deferred Maven model updates";
+
+    @Getter
+    final String description = "Updates the Maven model once for every pom whose annotation processor paths were changed by the Micronaut recipes before it. " +
+            "Annotation processor paths do not take part in dependency resolution, so when this recipe is part of a run those recipes leave the model update to it " +
+            "rather than re-resolving the pom after each change.";
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        return new Accumulator();
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof Xml.Document && ((Xml.Document) tree).getMarkers().findFirst(MavenResolutionResult.class).isPresent()) {
+                    // the scan of each cycle comes before any of its edits, which opens the batch for the cycle. The batch
+                    // lives in the root cursor of the cycle, so it is closed with the cycle even for poms this recipe
+                    // never visits, such as those of modules its preconditions skip
+                    getCursor().getRoot().putMessage(DEFERRED_MODEL_UPDATES, acc);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        return new MavenVisitor<ExecutionContext>() {
+            @Override
+            public Xml visitDocument(Xml.Document document, ExecutionContext ctx) {
+                // recipes running after this one on the same pom update its model themselves
+                acc.getVisitedPoms().add(document.getSourcePath());
+                if (acc.getPomsToUpdate().remove(document.getSourcePath())) {
+                    maybeUpdateModel();
+                }
+                return document;
+            }
+        };
+    }
+
+    /**
+     * Records that the model of the pom being visited has to be updated.
+     *
+     * @return {@code false} when this recipe is not part of the current cycle or has already visited the pom, in
+     * which case the caller updates the model itself.
+     */
+    static boolean deferModelUpdate(Cursor cursor) {
+        Accumulator acc = cursor.getRoot().getMessage(DEFERRED_MODEL_UPDATES);
+        Path pom = cursor.firstEnclosingOrThrow(Xml.Document.class).getSourcePath();
+        if (acc == null || acc.getVisitedPoms().contains(pom)) {
+            return false;
+        }
+        acc.getPomsToUpdate().add(pom);
+        return true;
+    }
+
+    @Data
+    public static class Accumulator {
+        /**
+         * The poms this recipe has visited in the current cycle.
+         */
+        final Set<Path> visitedPoms = ConcurrentHashMap.newKeySet();
+
+        /**
+         * The poms whose model update was deferred and which this recipe has not visited yet.
+         */
+        final Set<Path> pomsToUpdate = ConcurrentHashMap.newKeySet();
+    }
+}
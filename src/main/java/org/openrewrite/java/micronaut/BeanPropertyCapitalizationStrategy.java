@@ -20,41 +20,64 @@ import org.openrewrite.ExecutionContext;
 import org.openrewrite.Preconditions;
 import org.openrewrite.Recipe;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.ChangeLiteral;
+import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.J;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class BeanPropertyCapitalizationStrategy extends Recipe {
 
     @Getter
     final String displayName = "De-capitalize `BeanIntrospection` `getProperty(..)` and `getRequiredProperty(..)` name arguments";
 
     @Getter
-    final String description = "As of Micronaut 3.x property names for getters like `getXForwarded()` are de-capitalized from `XForwarded` to `xForwarded`.";
+    final String description = "As of Micronaut 3.x property names for getters like `getXForwarded()` are de-capitalized from `XForwarded` to `xForwarded`. " +
+            "The property name arguments of `BeanWrapper` `getProperty(..)`, `getRequiredProperty(..)` and `setProperty(..)` are de-capitalized as well.";
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("io.micronaut.core.beans.BeanIntrospection", false), new BeanPropertyCapitalizationStrategyVisitor());
+        return Preconditions.check(Preconditions.or(
+                new UsesType<>("io.micronaut.core.beans.BeanIntrospection", false),
+                new UsesType<>("io.micronaut.core.beans.BeanWrapper", false)
+        ), new BeanPropertyCapitalizationStrategyVisitor());
     }
 
     private static class BeanPropertyCapitalizationStrategyVisitor extends JavaIsoVisitor<ExecutionContext> {
-        private static final MethodMatcher BEAN_PROPERTY_METHOD = new MethodMatcher("io.micronaut.core.beans.BeanIntrospection getProperty(..)");
-        private static final MethodMatcher REQUIRED_BEAN_PROPERTY_METHOD = new MethodMatcher("io.micronaut.core.beans.BeanIntrospection getRequiredProperty(..)");
+        // `getIndexedProperties(..)`, `getIndexedProperty(..)` and `getBeanMethods()` take no property name
+        private static final List<MethodMatcher> PROPERTY_NAME_METHODS = Arrays.asList(
+                new MethodMatcher("io.micronaut.core.beans.BeanIntrospection getProperty(String, ..)"),
+                new MethodMatcher("io.micronaut.core.beans.BeanIntrospection getRequiredProperty(String, ..)"),
+                new MethodMatcher("io.micronaut.core.beans.BeanWrapper getProperty(String, ..)"),
+                new MethodMatcher("io.micronaut.core.beans.BeanWrapper getRequiredProperty(String, ..)"),
+                new MethodMatcher("io.micronaut.core.beans.BeanWrapper setProperty(String, ..)"));
 
         @Override
         public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
             J.MethodInvocation mi = super.visitMethodInvocation(method, ctx);
-            if ((BEAN_PROPERTY_METHOD.matches(mi) || REQUIRED_BEAN_PROPERTY_METHOD.matches(mi)) && mi.getArguments().get(0) instanceof J.Literal) {
-                J.Literal propertyNameArg = (J.Literal) mi.getArguments().get(0);
-                String sVal = String.valueOf(propertyNameArg.getValue());
-                final String newValue = sVal.substring(0, 1).toLowerCase() + sVal.substring(1);
-                if (!sVal.equals(newValue)) {
-                    doAfterVisit(new ChangeLiteral<>(propertyNameArg, p -> newValue));
-                }
+            if (mi.getArguments().get(0) instanceof J.Literal && PROPERTY_NAME_METHODS.stream().anyMatch(m -> m.matches(mi))) {
+                return mi.withArguments(ListUtils.mapFirst(mi.getArguments(), arg -> decapitalize((J.Literal) arg)));
             }
             return mi;
         }
+
+        private static J.Literal decapitalize(J.Literal propertyNameArg) {
+            if (!(propertyNameArg.getValue() instanceof String) || ((String) propertyNameArg.getValue()).isEmpty()) {
+                return propertyNameArg;
+            }
+            String sVal = (String) propertyNameArg.getValue();
+            String newValue = sVal.substring(0, 1).toLowerCase() + sVal.substring(1);
+            if (sVal.equals(newValue)) {
+                return propertyNameArg;
+            }
+            String valueSource = propertyNameArg.getValueSource();
+            String newValueSource = valueSource != null && valueSource.startsWith("\"" + sVal.charAt(0)) ?
+                    "\"" + newValue.charAt(0) + valueSource.substring(2) :
+                    "\"" + newValue + "\"";
+            return propertyNameArg.withValue(newValue).withValueSource(newValueSource);
+        }
     }
 }
@@ -94,7 +94,7 @@ public class ChangeAnnotationProcessorPath extends Recipe {
                 Xml.Tag plugin = (Xml.Tag) super.visitTag(tag, ctx);
                 if (isPluginTag("org.apache.maven.plugins", "maven-compiler-plugin")) {
                     plugin = maybeUpdatePlugin(plugin, ctx);
-                    if (plugin != tag) {
+                    if (plugin != tag && !ApplyDeferredMavenModelUpdates.deferModelUpdate(getCursor())) {
                         maybeUpdateModel();
                     }
                 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Cursor;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Option;
+import org.openrewrite.Recipe;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.internal.StringUtils;
+import org.openrewrite.maven.MavenVisitor;
+import org.openrewrite.semver.DependencyMatcher;
+import org.openrewrite.xml.AddOrUpdateChild;
+import org.openrewrite.xml.XmlVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.openrewrite.xml.FilterTagChildrenVisitor.filterTagChildren;
+import static org.openrewrite.xml.MapTagChildrenVisitor.mapTagChildren;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class ChangeAnnotationProcessorPaths extends Recipe {
+
+    @Option(displayName = "Rules",
+            description = "The annotation processor path changes to apply, each in the format " +
+                    "`oldGroupId:oldArtifactId:newGroupId:newArtifactId:newVersion:exclusions`. The old coordinates support glob expressions. " +
+                    "Empty or missing new coordinates keep the existing ones, and versions that start with 'micronaut.' are treated as a property reference. " +
+                    "Exclusions are a comma separated list in the format groupId:artifactId, and when there are none the existing exclusions are removed.",
+            example = "io.micronaut.*:micronaut-*::::io.micronaut:micronaut-inject")
+    List<String> rules;
+
+    String displayName = "Change Maven annotation processor paths";
+
+    String description = "Change the groupId, artifactId, version and exclusions of several Maven annotation processor paths at once. " +
+            "Every rule is applied within a single visit of the `maven-compiler-plugin`, and the Maven model is updated at most once per pom.";
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor() {
+        List<Rule> parsedRules = rules.stream().map(Rule::parse).collect(toList());
+
+        return new MavenVisitor<ExecutionContext>() {
+
+            @Override
+            public Xml visitDocument(Xml.Document document, ExecutionContext ctx) {
+                Xml.Document d = (Xml.Document) super.visitDocument(document, ctx);
+                if (d != document && !ApplyDeferredMavenModelUpdates.deferModelUpdate(getCursor())) {
+                    maybeUpdateModel();
+                }
+                return d;
+            }
+
+            @Override
+            public Xml visitTag(Xml.Tag tag, ExecutionContext ctx) {
+                Xml.Tag plugin = (Xml.Tag) super.visitTag(tag, ctx);
+                if (isPluginTag("org.apache.maven.plugins", "maven-compiler-plugin")) {
+                    plugin = mapTagChildren(plugin, childTag -> "configuration".equals(childTag.getName()) ?
+                            maybeUpdateConfiguration(childTag, new Cursor(getCursor(), childTag), ctx) : childTag);
+                }
+                return plugin;
+            }
+
+            private Xml.Tag maybeUpdateConfiguration(Xml.Tag configuration, Cursor configurationCursor, ExecutionContext ctx) {
+                return mapTagChildren(configuration, childTag -> "annotationProcessorPaths".equals(childTag.getName()) ?
+                        maybeUpdateAnnotationProcessorPaths(childTag, new Cursor(configurationCursor, childTag), ctx) : childTag);
+            }
+
+            private Xml.Tag maybeUpdateAnnotationProcessorPaths(Xml.Tag annotationProcessorPaths, Cursor pathsCursor, ExecutionContext ctx) {
+                return mapTagChildren(annotationProcessorPaths, childTag -> {
+                    if (!"path".equals(childTag.getName())) {
+                        return childTag;
+                    }
+                    Xml.Tag path = childTag;
+                    for (Rule rule : parsedRules) {
+                        if (rule.matches(path)) {
+                            path = applyRule(rule, path, pathsCursor, ctx);
+                        }
+                    }
+                    return path;
+                });
+            }
+
+            private Xml.Tag applyRule(Rule rule, Xml.Tag path, Cursor pathsCursor, ExecutionContext ctx) {
+                if (rule.newGroupId != null && !rule.newGroupId.equals(path.getChildValue("groupId").orElse(""))) {
+                    path = changeChildTagValue(path, "groupId", rule.newGroupId, ctx);
+                }
+                if (rule.newArtifactId != null && !rule.newArtifactId.equals(path.getChildValue("artifactId").orElse(""))) {
+                    path = changeChildTagValue(path, "artifactId", rule.newArtifactId, ctx);
+                }
+                if (rule.newVersion != null && !rule.newVersion.equals(path.getChildValue("version").orElse(""))) {
+                    path = changeChildTagValue(path, "version", rule.newVersion, ctx);
+                }
+                if (rule.exclusions == null) {
+                    return filterTagChildren(path, child -> !"exclusions".equals(child.getName()));
+                }
+                return AddOrUpdateChild.addOrUpdateChild(path, withNewIds(rule.exclusions), pathsCursor);
+            }
+
+            /**
+             * A copy of the parsed exclusions with fresh ids, so that no two paths share the same tree.
+             */
+            private Xml.Tag withNewIds(Xml.Tag tag) {
+                return (Xml.Tag) new XmlVisitor<Integer>() {
+                    @Override
+                    public Xml postVisit(Xml tree, Integer p) {
+                        return tree.withId(Tree.randomId());
+                    }
+                }.visitNonNull(tag, 0);
+            }
+        };
+    }
+
+    private static class Rule {
+        final DependencyMatcher matcher;
+
+        @Nullable
+        final String newGroupId;
+
+        @Nullable
+        final String newArtifactId;
+
+        @Nullable
+        final String newVersion;
+
+        /**
+         * The exclusions tag to add or update, parsed once per visitor and copied for every path it is added to.
+         */
+        final Xml.@Nullable Tag exclusions;
+
+        Rule(DependencyMatcher matcher, @Nullable String newGroupId, @Nullable String newArtifactId,
+             @Nullable String newVersion, Xml.@Nullable Tag exclusions) {
+            this.matcher = matcher;
+            this.newGroupId = newGroupId;
+            this.newArtifactId = newArtifactId;
+            this.newVersion = newVersion;
+            this.exclusions = exclusions;
+        }
+
+        boolean matches(Xml.Tag path) {
+            return matcher.matches(path.getChildValue("groupId").orElse(""),
+                    path.getChildValue("artifactId").orElse(""));
+        }
+
+        static Rule parse(String rule) {
+            String[] parts = rule.split(":", 6);
+            if (parts.length < 2 || StringUtils.isBlank(parts[0]) || StringUtils.isBlank(parts[1])) {
+                throw new IllegalStateException("Expected a rule in the form of oldGroupId:oldArtifactId:newGroupId:newArtifactId:newVersion:exclusions but was '" + rule + "'");
+            }
+            DependencyMatcher matcher = Objects.requireNonNull(DependencyMatcher.build(parts[0].trim() + ":" + parts[1].trim()).getValue());
+            String newVersion = part(parts, 4);
+            if (newVersion != null && newVersion.startsWith("micronaut.")) {
+                newVersion = "${" + newVersion + "}";
+            }
+            Xml.Tag exclusions = null;
+            String exclusionsPart = part(parts, 5);
+            List<String> exclusionsToAdd = exclusionsPart == null ? emptyList() : Arrays.stream(exclusionsPart.split(","))
+                    .map(String::trim)
+                    .filter(s -> !StringUtils.isBlank(s))
+                    .collect(toList());
+            if (!exclusionsToAdd.isEmpty()) {
+                exclusions = Xml.Tag.build("\n<exclusions>\n" +
+                        MavenExclusions.buildContent(exclusionsToAdd) +
+                        "</exclusions>");
+            }
+            return new Rule(matcher, part(parts, 2), part(parts, 3), newVersion, exclusions);
+        }
+
+        private static @Nullable String part(String[] parts, int index) {
+            return index < parts.length && !StringUtils.isBlank(parts[index]) ? parts[index].trim() : null;
+        }
+    }
+}
@@ -19,16 +19,23 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.openrewrite.Cursor;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
 import org.openrewrite.ScanningRecipe;
+import org.openrewrite.SourceFile;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.internal.ListUtils;
 import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.micronaut.table.AccumulatorSizes;
 import org.openrewrite.java.tree.J;
 import org.openrewrite.java.tree.JavaType;
 import org.openrewrite.java.tree.TypeUtils;
+import org.openrewrite.marker.SearchResult;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toSet;
@@ -105,6 +112,8 @@ public class CopyNonInheritedAnnotations extends ScanningRecipe<CopyNonInherited
     @Getter
     final String description = "As of Micronaut 3.x only [annotations](https://github.com/micronaut-projects/micronaut-core/blob/3.0.x/src/main/docs/guide/appendix/breaks.adoc#annotation-inheritance) that are explicitly meta-annotated with `@Inherited` are inherited from parent classes and interfaces.";
 
+    transient AccumulatorSizes accumulatorSizes = new AccumulatorSizes(this);
+
     @Override
     public Accumulator getInitialValue(ExecutionContext ctx) {
         return new Accumulator();
@@ -112,7 +121,7 @@ public class CopyNonInheritedAnnotations extends ScanningRecipe<CopyNonInherited
 
     @Override
     public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
-        return new JavaIsoVisitor<ExecutionContext>() {
+        return new DeclarationOnlyVisitor<ExecutionContext>() {
             @Override
             public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
                 J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
@@ -120,8 +129,9 @@ public class CopyNonInheritedAnnotations extends ScanningRecipe<CopyNonInherited
                     String classFqn = cd.getType().getFullyQualifiedName();
                     for (J.Annotation annotation : cd.getLeadingAnnotations()) {
                         JavaType.FullyQualified annoFq = TypeUtils.asFullyQualified(annotation.getType());
-                        if (annoFq != null && NON_INHERITED_ANNOTATION_TYPES.stream().anyMatch(fqn -> fqn.equals(annoFq.getFullyQualifiedName()))) {
-                            acc.getParentAnnotationsByType().computeIfAbsent(classFqn, v -> new ArrayList<>()).add(annotation);
+                        if (annoFq != null && NON_INHERITED_ANNOTATION_TYPES.contains(annoFq.getFullyQualifiedName())) {
+                            acc.getParentAnnotationsByType().computeIfAbsent(classFqn, v -> new CopyOnWriteArrayList<>())
+                                    .add(acc.intern(internKey(annoFq, annotation, getCursor()), annotation));
                         }
                     }
                 }
@@ -130,13 +140,61 @@ public class CopyNonInheritedAnnotations extends ScanningRecipe<CopyNonInherited
         };
     }
 
+    /**
+     * Annotations without arguments are told apart by their type alone. Those with arguments are told apart by their
+     * source text and by what the names in it are attributed to, as {@code Foo.class} may mean a different
+     * {@code Foo} in another package.
+     */
+    private static String internKey(JavaType.FullyQualified annotationType, J.Annotation annotation, Cursor cursor) {
+        if (annotation.getArguments() == null || annotation.getArguments().isEmpty()) {
+            return annotationType.getFullyQualifiedName();
+        }
+        StringBuilder key = new StringBuilder(annotationType.getFullyQualifiedName()).append(annotation.printTrimmed(cursor));
+        new JavaIsoVisitor<StringBuilder>() {
+            @Override
+            public J.Identifier visitIdentifier(J.Identifier identifier, StringBuilder k) {
+                k.append(' ').append(identifier.getType() == null ? null : TypeUtils.toString(identifier.getType()));
+                if (identifier.getFieldType() != null) {
+                    k.append(' ').append(TypeUtils.toString(identifier.getFieldType()));
+                }
+                return identifier;
+            }
+        }.visit(annotation, key, cursor);
+        return key.toString();
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        // rows inserted while a precondition is checked are discarded, so the size is reported here,
+        // once per run, before any source file is visited
+        if (ctx.getCycle() <= 1 && acc.entries() > 0) {
+            accumulatorSizes.insertRow(ctx, getName(), acc.entries(), acc.estimatedRetainedBytes());
+        }
+        return Collections.emptyList();
+    }
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
         if (acc.getParentAnnotationsByType().isEmpty()) {
             return TreeVisitor.noop();
         }
 
-        return new CopyAnnoVisitor(acc.getParentAnnotationsByType());
+        Set<String> annotatedParents = acc.getParentAnnotationsByType().keySet();
+        return Preconditions.check(new JavaIsoVisitor<ExecutionContext>() {
+            @Override
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                // a class can only inherit from an annotated parent through a type the compilation unit uses
+                TypeHierarchyIndex typeHierarchy = TypeHierarchyIndex.get(ctx);
+                for (JavaType type : cu.getTypesInUse().getTypesInUse()) {
+                    JavaType.FullyQualified fq = TypeUtils.asFullyQualified(type);
+                    if (fq != null && (annotatedParents.contains(fq.getFullyQualifiedName()) ||
+                                       typeHierarchy.hasAncestorIn(fq, annotatedParents))) {
+                        return SearchResult.found(cu);
+                    }
+                }
+                return cu;
+            }
+        }, new CopyAnnoVisitor(acc.getParentAnnotationsByType()));
     }
 
     @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -146,21 +204,15 @@ public class CopyNonInheritedAnnotations extends ScanningRecipe<CopyNonInherited
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
             J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
+            if (cd.getType() == null || (cd.getExtends() == null && cd.getImplements() == null) ||
+                !TypeHierarchyIndex.get(ctx).hasAncestorIn(cd.getType(), parentAnnotationsByType.keySet())) {
+                return cd;
+            }
 
             //First collect the names of all super classes and interfaces.
             Set<String> parentTypes = new HashSet<>();
-            JavaType.FullyQualified currentFq = cd.getType();
-
-            while (currentFq != null) {
-                parentTypes.add(currentFq.getFullyQualifiedName());
-                for (JavaType.FullyQualified i : currentFq.getInterfaces()) {
-                    parentTypes.add(i.getFullyQualifiedName());
-                }
-                currentFq = currentFq.getSupertype();
-                if (currentFq != null && parentTypes.contains(currentFq.getFullyQualifiedName())) {
-                    break;
-                }
-            }
+            parentTypes.add(cd.getType().getFullyQualifiedName());
+            parentTypes.addAll(TypeHierarchyIndex.get(ctx).ancestorNames(cd.getType()));
 
             //Collect the annotation names already applied to the class.
             Set<String> existingAnnotations = new HashSet<>();
@@ -203,6 +255,63 @@ public class CopyNonInheritedAnnotations extends ScanningRecipe<CopyNonInherited
 
     @Data
     static class Accumulator {
-        final Map<String, List<J.Annotation>> parentAnnotationsByType = new HashMap<>();
+        private static final long TREE_BYTES_PER_CHARACTER = 24;
+
+        final Map<String, List<J.Annotation>> parentAnnotationsByType = new ConcurrentHashMap<>();
+
+        /**
+         * One instance of every distinct annotation seen while scanning, keyed by its type, source text and the
+         * types the names in it are attributed to. Large repositories tend to repeat the same few annotations on many
+         * parent types, so the annotation trees held between scanning and editing grow with the number of distinct
+         * annotations. The parent types and their lists of references to those trees still grow with the number of
+         * annotated parent types.
+         */
+        private final Map<String, J.Annotation> distinctAnnotations = new ConcurrentHashMap<>();
+
+        J.Annotation intern(String key, J.Annotation annotation) {
+            J.Annotation existing = distinctAnnotations.putIfAbsent(key, annotation);
+            return existing == null ? annotation : existing;
+        }
+
+        long entries() {
+            long entries = 0;
+            for (List<J.Annotation> annotations : parentAnnotationsByType.values()) {
+                entries += 1 + annotations.size();
+            }
+            return entries;
+        }
+
+        /**
+         * Counts the parent type names and list entries, and for every distinct annotation its source text at
+         * {@link #TREE_BYTES_PER_CHARACTER}, as the trees of an annotation are about that much larger than its text.
+         */
+        long estimatedRetainedBytes() {
+            long bytes = 0;
+            for (Map.Entry<String, List<J.Annotation>> entry : parentAnnotationsByType.entrySet()) {
+                bytes += AccumulatorSizes.estimateBytes(entry.getKey()) + 8L * entry.getValue().size();
+            }
+            for (String key : distinctAnnotations.keySet()) {
+                bytes += AccumulatorSizes.estimateBytes(key) + TREE_BYTES_PER_CHARACTER * key.length();
+            }
+            return bytes;
+        }
+
+        /**
+         * Adds the scan results of another accumulator to this one, so that separately scanned parts of a repository
+         * can be combined before the edit phase. Merging is associative.
+         */
+        Accumulator merge(Accumulator other) {
+            Map<J.Annotation, String> otherKeys = new IdentityHashMap<>();
+            other.getDistinctAnnotations().forEach((key, annotation) -> otherKeys.put(annotation, key));
+            other.getParentAnnotationsByType().forEach((type, annotations) -> {
+                List<J.Annotation> interned = new ArrayList<>(annotations.size());
+                for (J.Annotation annotation : annotations) {
+                    String key = otherKeys.get(annotation);
+                    interned.add(key == null ? annotation : intern(key, annotation));
+                }
+                parentAnnotationsByType.computeIfAbsent(type, v -> new CopyOnWriteArrayList<>()).addAll(interned);
+            });
+            return this;
+        }
     }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.openrewrite.java.JavaIsoVisitor;
+import org.openrewrite.java.tree.J;
+
+/**
+ * A visitor for scanners that only look at class, method and field signatures. It descends into class bodies,
+ * but not into method bodies, initializer blocks or field initializers, along with the statements and lambdas within them.
+ */
+abstract class DeclarationOnlyVisitor<P> extends JavaIsoVisitor<P> {
+
+    @Override
+    public J.Block visitBlock(J.Block block, P p) {
+        if (getCursor().getParentTreeCursor().getValue() instanceof J.ClassDeclaration) {
+            return super.visitBlock(block, p);
+        }
+        return block;
+    }
+
+    @Override
+    public J.VariableDeclarations.NamedVariable visitVariable(J.VariableDeclarations.NamedVariable variable, P p) {
+        return variable;
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.config.DeclarativeRecipe;
+import org.openrewrite.config.Environment;
+import org.openrewrite.java.micronaut.table.MigrationCandidates;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Collections.emptyList;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class EstimateMigrationCandidates extends ScanningRecipe<EstimateMigrationCandidates.Accumulator> {
+
+    private static final String MIGRATION_CANDIDATES = "org.openrewrite.java.micronaut.migrationCandidates.";
+
+    @Option(displayName = "Migration",
+            description = "The fully qualified name of the migration recipe to estimate.",
+            example = "org.openrewrite.java.micronaut.Micronaut3to4Migration")
+    String migration;
+
+    @Option(displayName = "Major version",
+            description = "Modules that already declare this Micronaut major version or a later one are left out, as the migration skips them.",
+            example = "4")
+    Integer majorVersion;
+
+    transient MigrationCandidates migrationCandidates = new MigrationCandidates(this);
+
+    String displayName = "Estimate the source files a Micronaut migration could change";
+
+    String description = "Counts, for every module and every recipe of a migration, the source files that pass the recipe's preconditions, without running the migration. " +
+            "Only the checks of the preconditions are evaluated, those of the recipe itself and those of the declarative recipes that contain it. " +
+            "Recipes whose visitor has no precondition check, and scanning recipes, whose visitors need the whole repository scanned first, cannot be estimated this way and are left out. " +
+            "Preconditions that are scanning recipes themselves are assumed to pass, as is the case for the Micronaut version of a module, which this recipe checks by module instead.";
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        // scanning the runtime classpath for recipes is far more expensive than the estimate itself, so the migration is
+        // resolved once per run rather than once per cycle
+        return new Accumulator(ctx.computeMessageIfAbsent(MIGRATION_CANDIDATES + migration, k -> {
+            List<Candidate> candidates = new ArrayList<>();
+            addCandidates(Environment.builder()
+                    .scanRuntimeClasspath()
+                    .build()
+                    .activateRecipes(migration), emptyList(), candidates);
+            return Collections.unmodifiableList(candidates);
+        }));
+    }
+
+    /**
+     * Adds the leaf recipes that can be estimated, each with the preconditions of the declarative recipes containing it.
+     */
+    private static void addCandidates(Recipe recipe, List<Recipe> enclosingPreconditions, List<Candidate> candidates) {
+        if (recipe.getRecipeList().isEmpty()) {
+            if (!(recipe instanceof ScanningRecipe)) {
+                candidates.add(new Candidate(recipe, enclosingPreconditions));
+            }
+            return;
+        }
+        List<Recipe> preconditions = enclosingPreconditions;
+        if (recipe instanceof DeclarativeRecipe && !((DeclarativeRecipe) recipe).getPreconditions().isEmpty()) {
+            preconditions = new ArrayList<>(enclosingPreconditions);
+            preconditions.addAll(((DeclarativeRecipe) recipe).getPreconditions());
+        }
+        for (Recipe child : recipe.getRecipeList()) {
+            if (child instanceof Recipe.DelegatingRecipe) {
+                // the children of a declarative recipe with preconditions are decorated with the result of evaluating
+                // them while the migration runs, so they are estimated undecorated, against the preconditions instead
+                addCandidates(((Recipe.DelegatingRecipe) child).getDelegate(), preconditions, candidates);
+            } else if (preconditions == enclosingPreconditions) {
+                addCandidates(child, preconditions, candidates);
+            }
+            // otherwise the child is the recipe evaluating the preconditions for the decorated children
+        }
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        ModuleHasMicronautVersionBelow moduleVersions = new ModuleHasMicronautVersionBelow(majorVersion);
+        TreeVisitor<?, ExecutionContext> moduleVersionScanner = moduleVersions.getScanner(acc.getModuleVersions());
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    SourceFile sourceFile = (SourceFile) tree;
+                    moduleVersionScanner.visit(sourceFile, ctx);
+                    // declarative preconditions are shared by many recipes, so each is checked once per source file
+                    Map<Recipe, Boolean> passedPreconditions = new IdentityHashMap<>();
+                    BitSet candidateFor = new BitSet(acc.getCandidates().size());
+                    for (int i = 0; i < acc.getCandidates().size(); i++) {
+                        if (acc.getCandidates().get(i).passes(sourceFile, passedPreconditions, ctx)) {
+                            candidateFor.set(i);
+                        }
+                    }
+                    acc.getCandidatesBySourcePath().put(sourceFile.getSourcePath(), candidateFor);
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        Map<String, int[]> candidatesByModule = new TreeMap<>();
+        Map<String, @Nullable Integer> versionByModule = new HashMap<>();
+        acc.getCandidatesBySourcePath().forEach((sourcePath, candidateFor) -> {
+            Integer moduleVersion = acc.getModuleVersions().findMajorVersion(sourcePath);
+            if (moduleVersion != null && moduleVersion >= majorVersion) {
+                return;
+            }
+            Path module = acc.getModuleVersions().findModule(sourcePath);
+            String moduleName = module == null ? "" : module.toString();
+            versionByModule.put(moduleName, moduleVersion);
+            int[] candidates = candidatesByModule.computeIfAbsent(moduleName, m -> new int[acc.getCandidates().size()]);
+            for (int i = candidateFor.nextSetBit(0); i >= 0; i = candidateFor.nextSetBit(i + 1)) {
+                candidates[i]++;
+            }
+        });
+        candidatesByModule.forEach((module, candidates) -> {
+            for (int i = 0; i < candidates.length; i++) {
+                if (candidates[i] > 0) {
+                    migrationCandidates.insertRow(ctx, new MigrationCandidates.Row(module, versionByModule.get(module),
+                            acc.getCandidates().get(i).getRecipe().getName(), candidates[i]));
+                }
+            }
+        });
+        return Collections.emptyList();
+    }
+
+    /**
+     * A leaf recipe of the migration, with the preconditions of the declarative recipes that contain it.
+     */
+    @Value
+    static class Candidate {
+        Recipe recipe;
+        List<Recipe> preconditions;
+
+        /**
+         * Evaluates the checks of the preconditions only. The visitor of a recipe without a precondition would have to
+         * be run in full, so such recipes are never candidates.
+         */
+        boolean passes(SourceFile sourceFile, Map<Recipe, Boolean> passedPreconditions, ExecutionContext ctx) {
+            for (Recipe precondition : preconditions) {
+                if (!passedPreconditions.computeIfAbsent(precondition, p -> p instanceof ScanningRecipe ||
+                        passesCheck(p.getVisitor(), sourceFile, ctx))) {
+                    return false;
+                }
+            }
+            // a new visitor for every source file, as visitors keep a cursor and source files may be scanned concurrently
+            TreeVisitor<?, ExecutionContext> visitor = recipe.getVisitor();
+            return visitor instanceof Preconditions.Check && visitor.isAcceptable(sourceFile, ctx) &&
+                   passesCheck(((Preconditions.Check) visitor).getCheck(), sourceFile, ctx);
+        }
+
+        private static boolean passesCheck(TreeVisitor<?, ExecutionContext> check, SourceFile sourceFile, ExecutionContext ctx) {
+            return check.isAcceptable(sourceFile, ctx) && check.visit(sourceFile, ctx) != sourceFile;
+        }
+    }
+
+    @Data
+    static class Accumulator {
+        final List<Candidate> candidates;
+
+        final ModuleHasMicronautVersionBelow.Accumulator moduleVersions = new ModuleHasMicronautVersionBelow.Accumulator();
+
+        /**
+         * For every source file, the indexes of the recipes that could change it.
+         */
+        final Map<Path, BitSet> candidatesBySourcePath = new ConcurrentHashMap<>();
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.openrewrite.java.micronaut;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.openrewrite.ExecutionContext;
@@ -39,6 +41,15 @@ import java.util.Optional;
 import static java.util.Collections.*;
 import static org.openrewrite.Tree.randomId;
 
+/**
+ * Resolves newer Micronaut and Micronaut Gradle plugin versions from remote metadata.
+ * <p>
+ * Each resolution is timed as {@code rewrite.micronaut.version.resolve}, tagged by {@code artifact} and
+ * {@code outcome}, in Micrometer's {@link Metrics#globalRegistry}. That registry records nothing until the tool
+ * running the recipes adds a registry to it, so the timer costs next to nothing otherwise. Scan and edit times per
+ * recipe and source file, including template application and preconditions, are already reported by rewrite core's
+ * recipe run statistics and source file results data tables, so they are not timed again here.
+ */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class MicronautVersionHelper {
 
@@ -53,8 +64,16 @@ public final class MicronautVersionHelper {
 
         String groupId = "4".equals(Semver.majorVersion(versionPattern)) ? V4_GROUP_ID : GROUP_ID;
 
-        MavenMetadata mavenMetadata = new MavenPomDownloader(emptyMap(), ctx)
-                .downloadMetadata(new GroupArtifact(groupId, ARTIFACT_ID), null, emptyList());
+        Timer.Sample sample = Timer.start();
+        MavenMetadata mavenMetadata;
+        try {
+            mavenMetadata = new MavenPomDownloader(emptyMap(), ctx)
+                    .downloadMetadata(new GroupArtifact(groupId, ARTIFACT_ID), null, emptyList());
+        } catch (MavenDownloadingException | RuntimeException e) {
+            stop(sample, groupId + ":" + ARTIFACT_ID, "error");
+            throw e;
+        }
+        stop(sample, groupId + ":" + ARTIFACT_ID, "success");
 
         Collection<String> availableVersions = new ArrayList<>();
         for (String v : mavenMetadata.getVersioning().getVersions()) {
@@ -76,11 +95,31 @@ public final class MicronautVersionHelper {
                 singletonList(new GradlePluginDescriptor("io.micronaut.gradle.MicronautApplicationPlugin", null)),
                 emptyMap(),
                 new GradleBuildscript(randomId(), singletonList(gradlePluginsRepo), emptyMap()));
-        return Optional.ofNullable(new DependencyVersionSelector(null, null, gradleSettings)
-                .select(new GroupArtifactVersion(pluginId, pluginId + ".gradle.plugin", currentVersion),
-                        "classpath",
-                        versionPattern,
-                        (String) null,
-                        ctx));
+        Timer.Sample sample = Timer.start();
+        try {
+            Optional<String> newerVersion = Optional.ofNullable(new DependencyVersionSelector(null, null, gradleSettings)
+                    .select(new GroupArtifactVersion(pluginId, pluginId + ".gradle.plugin", currentVersion),
+                            "classpath",
+                            versionPattern,
+                            (String) null,
+                            ctx));
+            stop(sample, pluginId, "success");
+            return newerVersion;
+        } catch (MavenDownloadingException | RuntimeException e) {
+            stop(sample, pluginId, "error");
+            throw e;
+        }
+    }
+
+    /**
+     * Records the time spent resolving versions from remote metadata, which is the one part of the Micronaut recipes
+     * that waits on the network rather than working on source files.
+     */
+    private static void stop(Timer.Sample sample, String artifact, String outcome) {
+        sample.stop(Timer.builder("rewrite.micronaut.version.resolve")
+                .description("The time spent resolving newer Micronaut versions from remote metadata.")
+                .tag("artifact", artifact)
+                .tag("outcome", outcome)
+                .register(Metrics.globalRegistry));
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.*;
+import org.openrewrite.gradle.marker.GradleDependencyConfiguration;
+import org.openrewrite.gradle.marker.GradleProject;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.Parent;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.maven.tree.ResolvedPom;
+import org.openrewrite.properties.tree.Properties;
+import org.openrewrite.semver.Semver;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@EqualsAndHashCode(callSuper = false)
+@Value
+public class ModuleHasMicronautVersionBelow extends ScanningRecipe<ModuleHasMicronautVersionBelow.Accumulator> {
+
+    private static final String MAVEN_PROPERTY = "micronaut.version";
+    private static final String GRADLE_PROPERTY = "micronautVersion";
+    private static final String GRADLE_PROPERTIES = "gradle.properties";
+    private static final String PARENT_ARTIFACT_ID = "micronaut-parent";
+    private static final String ACCUMULATOR = "org.openrewrite.java.micronaut.ModuleHasMicronautVersionBelow.accumulator";
+
+    @Option(displayName = "Major version",
+            description = "Source files are marked when the Micronaut major version of their module is lower than this one.",
+            example = "4")
+    Integer majorVersion;
+
+    String displayName = "Module has a Micronaut version below a major version";
+
+    String description = "Marks every source file of a module whose build declares a Micronaut major version lower than the given one. " +
+            "The version is read from the `micronaut.version` Maven property or `micronaut-parent` parent, the `micronautVersion` " +
+            "entry of `gradle.properties`, or the resolved `io.micronaut` Gradle dependencies. Modules with no detectable version are marked too, " +
+            "so that migrations using this as a precondition are only skipped for modules that are known to be migrated already.";
+
+    @Override
+    public Accumulator getInitialValue(ExecutionContext ctx) {
+        // accumulators only live for one cycle, the classification of the first one is kept for the whole run
+        return ctx.computeMessageIfAbsent(ACCUMULATOR, k -> new Accumulator());
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getScanner(Accumulator acc) {
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                // modules are classified by the versions they declared before the migration started, as the
+                // migration bumps those versions in the first cycle and later cycles must still apply to the module
+                if (tree instanceof SourceFile && !acc.isClassified()) {
+                    SourceFile sourceFile = (SourceFile) tree;
+                    Integer detected = detectMajorVersion(sourceFile);
+                    if (detected != null) {
+                        acc.getMajorVersionByModule().merge(moduleOf(sourceFile), detected, Math::max);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    @Override
+    public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
+        acc.setClassified(true);
+        return new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof SourceFile) {
+                    Integer moduleVersion = acc.findMajorVersion(((SourceFile) tree).getSourcePath());
+                    if (moduleVersion == null || moduleVersion < majorVersion) {
+                        return SearchResult.found(tree);
+                    }
+                }
+                return tree;
+            }
+        };
+    }
+
+    private static @Nullable Integer detectMajorVersion(SourceFile sourceFile) {
+        MavenResolutionResult mrr = sourceFile.getMarkers().findFirst(MavenResolutionResult.class).orElse(null);
+        if (mrr != null) {
+            ResolvedPom pom = mrr.getPom();
+            Integer fromProperty = parseMajorVersion(pom.getProperties().get(MAVEN_PROPERTY));
+            if (fromProperty != null) {
+                return fromProperty;
+            }
+            Parent parent = pom.getRequested().getParent();
+            if (parent != null && PARENT_ARTIFACT_ID.equals(parent.getArtifactId()) && parent.getGroupId().startsWith("io.micronaut")) {
+                return parseMajorVersion(parent.getVersion());
+            }
+            return null;
+        }
+
+        GradleProject gradleProject = sourceFile.getMarkers().findFirst(GradleProject.class).orElse(null);
+        if (gradleProject != null) {
+            GradleDependencyConfiguration compileClasspath = gradleProject.getConfiguration("compileClasspath");
+            if (compileClasspath != null) {
+                for (ResolvedDependency resolved : compileClasspath.getResolved()) {
+                    // all io.micronaut:* core artifacts share the framework version
+                    if ("io.micronaut".equals(resolved.getGroupId())) {
+                        return parseMajorVersion(resolved.getVersion());
+                    }
+                }
+            }
+            return null;
+        }
+
+        if (sourceFile instanceof Properties.File && sourceFile.getSourcePath().endsWith(GRADLE_PROPERTIES)) {
+            for (Properties.Content content : ((Properties.File) sourceFile).getContent()) {
+                if (content instanceof Properties.Entry && GRADLE_PROPERTY.equals(((Properties.Entry) content).getKey())) {
+                    return parseMajorVersion(((Properties.Entry) content).getValue().getText());
+                }
+            }
+        }
+        return null;
+    }
+
+    private static @Nullable Integer parseMajorVersion(@Nullable String version) {
+        if (version == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(Semver.majorVersion(version.trim()));
+        } catch (NumberFormatException e) {
+            // property placeholders and other unresolvable versions
+            return null;
+        }
+    }
+
+    private static Path moduleOf(SourceFile sourceFile) {
+        Path parent = sourceFile.getSourcePath().getParent();
+        return parent == null ? Paths.get("") : parent;
+    }
+
+    @Data
+    public static class Accumulator {
+        final Map<Path, Integer> majorVersionByModule = new ConcurrentHashMap<>();
+
+        /**
+         * Set once the first scan is over, after which the detected versions are no longer updated.
+         */
+        volatile boolean classified;
+
+        /**
+         * The Micronaut major version of the nearest enclosing module that declares one.
+         */
+        @Nullable
+        Integer findMajorVersion(Path sourcePath) {
+            Path module = findModule(sourcePath);
+            return module == null ? null : majorVersionByModule.get(module);
+        }
+
+        /**
+         * The directory of the nearest enclosing module that declares a Micronaut version.
+         */
+        @Nullable
+        Path findModule(Path sourcePath) {
+            for (Path dir = sourcePath.getParent(); dir != null; dir = dir.getParent()) {
+                if (majorVersionByModule.containsKey(dir)) {
+                    return dir;
+                }
+            }
+            return majorVersionByModule.containsKey(Paths.get("")) ? Paths.get("") : null;
+        }
+    }
+}
@@ -18,14 +18,18 @@ package org.openrewrite.java.micronaut;
 import lombok.Getter;
 import org.openrewrite.*;
 import org.openrewrite.internal.ListUtils;
-import org.openrewrite.java.ChangeMethodName;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.MethodMatcher;
 import org.openrewrite.java.search.UsesType;
 import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
 
 public class OncePerRequestHttpServerFilterToHttpServerFilter extends Recipe {
     private static final String oncePerRequestHttpServerFilterFqn = "io.micronaut.http.filter.OncePerRequestHttpServerFilter";
@@ -43,9 +47,24 @@ public class OncePerRequestHttpServerFilterToHttpServerFilter extends Recipe {
 
     private static class OncePerRequestHttpServerFilterToHttpServerFilterVisitor extends JavaIsoVisitor<ExecutionContext> {
 
+        private static final String MIGRATED_FILTERS = "migrated-filters";
         private static final MethodMatcher keyMethodMatcher = new MethodMatcher(oncePerRequestHttpServerFilterFqn + " getKey(Class)");
         private static final MethodMatcher doFilterOnceMethodMatcher = new MethodMatcher("* doFilterOnce(io.micronaut.http.HttpRequest, io.micronaut.http.filter.ServerFilterChain)");
 
+        @Override
+        public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+            // filters migrated in this file, so their doFilterOnce declarations and call sites are renamed along the way
+            Set<String> migratedFilters = new HashSet<>();
+            for (JavaType.Method declared : cu.getTypesInUse().getDeclaredMethods()) {
+                JavaType.FullyQualified declaringType = declared.getDeclaringType();
+                if (TypeUtils.isOfClassType(declaringType.getSupertype(), oncePerRequestHttpServerFilterFqn)) {
+                    migratedFilters.add(declaringType.getFullyQualifiedName());
+                }
+            }
+            getCursor().putMessage(MIGRATED_FILTERS, migratedFilters);
+            return super.visitCompilationUnit(cu, ctx);
+        }
+
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
             J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
@@ -54,15 +73,10 @@ public class OncePerRequestHttpServerFilterToHttpServerFilter extends Recipe {
                 cd = cd.withExtends(null);
                 J.Identifier newImplementsIdentifier = new J.Identifier(Tree.randomId(), Space.format(" "), Markers.EMPTY,
                         emptyList(), "HttpServerFilter", JavaType.buildType("io.micronaut.http.filter.HttpServerFilter"), null);
-                J.Block body = cd.getBody();
-                //noinspection ConstantConditions
-                cd = maybeAutoFormat(cd, cd.withBody(null).withImplements(ListUtils.concat(cd.getImplements(), newImplementsIdentifier)), ctx, getCursor().getParent());
-                cd = cd.withBody(body);
-                if (cd.getType() != null) {
-                    doAfterVisit(new ChangeMethodName(
-                            cd.getType().getFullyQualifiedName() + " doFilterOnce(io.micronaut.http.HttpRequest, io.micronaut.http.filter.ServerFilterChain)",
-                            "doFilter", true, false).getVisitor());
-                }
+                JContainer<TypeTree> implementsContainer = cd.getPadding().getImplements();
+                cd = cd.getPadding().withImplements(implementsContainer == null ?
+                        JContainer.build(Space.format(" "), singletonList(JRightPadded.build(newImplementsIdentifier)), Markers.EMPTY) :
+                        implementsContainer.getPadding().withElements(ListUtils.concat(implementsContainer.getPadding().getElements(), JRightPadded.build(newImplementsIdentifier))));
                 maybeRemoveImport(oncePerRequestHttpServerFilterFqn);
                 maybeAddImport("io.micronaut.http.filter.HttpServerFilter");
             }
@@ -79,6 +93,13 @@ public class OncePerRequestHttpServerFilterToHttpServerFilter extends Recipe {
                                 mod.getType() == J.Modifier.Type.Protected ?
                                 mod.withType(J.Modifier.Type.Public) : mod)
                 );
+                JavaType.Method methodType = methodDeclaration.getMethodType();
+                if (methodType != null && isOfMigratedFilter(methodType, ctx)) {
+                    JavaType.Method doFilterType = methodType.withName("doFilter");
+                    methodDeclaration = methodDeclaration
+                            .withName(methodDeclaration.getName().withSimpleName("doFilter").withType(doFilterType))
+                            .withMethodType(doFilterType);
+                }
             }
             return methodDeclaration;
         }
@@ -90,7 +111,22 @@ public class OncePerRequestHttpServerFilterToHttpServerFilter extends Recipe {
             if (keyMethodMatcher.matches(mi) && mi.getComments().stream().noneMatch(c -> c instanceof TextComment && ((TextComment) c).getText().equals(todoCommentText))) {
                 mi = mi.withComments(ListUtils.concat(mi.getComments(), new TextComment(true, todoCommentText, " ", Markers.EMPTY)));
             }
+            if (doFilterOnceMethodMatcher.matches(mi) && mi.getMethodType() != null && isOfMigratedFilter(mi.getMethodType(), ctx)) {
+                JavaType.Method doFilterType = mi.getMethodType().withName("doFilter");
+                mi = mi.withName(mi.getName().withSimpleName("doFilter").withType(doFilterType))
+                        .withMethodType(doFilterType);
+            }
             return mi;
         }
+
+        private boolean isOfMigratedFilter(JavaType.Method methodType, ExecutionContext ctx) {
+            Set<String> migratedFilters = getCursor().getNearestMessage(MIGRATED_FILTERS, emptySet());
+            for (String migratedFilter : migratedFilters) {
+                if (TypeHierarchyIndex.get(ctx).isSubtypeOf(methodType.getDeclaringType(), migratedFilter)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 }
@@ -26,24 +26,21 @@ import org.openrewrite.java.tree.TypeUtils;
 
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
 public class ProviderImplementationsToMicronautFactories extends Recipe {
 
-    private static final List<AnnotationMatcher> BEAN_ANNOTATION_MATCHERS = Stream.concat(
-            Stream.of("io.micronaut.context.annotation.Bean",
-                    "io.micronaut.context.annotation.Context",
-                    "io.micronaut.context.annotation.Prototype",
-                    "io.micronaut.context.annotation.Infrastructure",
-                    "io.micronaut.runtime.context.scope.Refreshable",
-                    "io.micronaut.runtime.context.scope.ThreadLocal",
-                    "io.micronaut.runtime.http.scope.RequestScope")
-                    .map(it -> new AnnotationMatcher("@" + it)),
-            Stream.of("@javax.inject", "@jakarta.inject")
-                    .map(it -> new AnnotationMatcher(it + ".Singleton")))
-            .map(AnnotationMatcher.class::cast).collect(toList());
+    private static final AnnotationTypes BEAN_ANNOTATION_TYPES = new AnnotationTypes(
+            "io.micronaut.context.annotation.Bean",
+            "io.micronaut.context.annotation.Context",
+            "io.micronaut.context.annotation.Prototype",
+            "io.micronaut.context.annotation.Infrastructure",
+            "io.micronaut.runtime.context.scope.Refreshable",
+            "io.micronaut.runtime.context.scope.ThreadLocal",
+            "io.micronaut.runtime.http.scope.RequestScope",
+            "javax.inject.Singleton",
+            "jakarta.inject.Singleton");
 
     @Getter
     final String displayName = "`Provider` implementation beans to Micronaut `@Factory`";
@@ -56,20 +53,11 @@ public class ProviderImplementationsToMicronautFactories extends Recipe {
         return Preconditions.check(Preconditions.or(
                 new UsesType<>("javax.inject.Provider", false),
                 new UsesType<>("jakarta.inject.Provider", false)
-        ), new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
-                if (cu.getClasses().stream().anyMatch(cd -> isProvider(cd) && cd.getLeadingAnnotations().stream()
-                        .anyMatch(ProviderImplementationsToMicronautFactories::isBeanAnnotation))) {
-                    doAfterVisit(new ProviderImplementationsGenerateFactoriesVisitor());
-                }
-                return cu;
-            }
-        });
+        ), new ProviderImplementationsGenerateFactoriesVisitor());
     }
 
     private static boolean isBeanAnnotation(J.Annotation annotation) {
-        return BEAN_ANNOTATION_MATCHERS.stream().anyMatch(annotationMatcher -> annotationMatcher.matches(annotation));
+        return BEAN_ANNOTATION_TYPES.matches(annotation);
     }
 
     private static boolean isProvider(J.ClassDeclaration classDecl) {
@@ -87,7 +75,6 @@ public class ProviderImplementationsToMicronautFactories extends Recipe {
             if (classDecl.getType() == null || !isProvider(classDecl) || beanAnnotations.isEmpty()) {
                 return classDecl;
             }
-            getCursor().putMessage("provider-get", new MethodMatcher(classDecl.getType().getFullyQualifiedName() + " get()"));
             getCursor().putMessage("class-bean-annotations", beanAnnotations);
             J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
 
@@ -113,9 +100,8 @@ public class ProviderImplementationsToMicronautFactories extends Recipe {
         public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, ExecutionContext ctx) {
             J.MethodDeclaration md = super.visitMethodDeclaration(method, ctx);
             Cursor classDeclCursor = getCursor().dropParentUntil(J.ClassDeclaration.class::isInstance);
-            MethodMatcher mm = classDeclCursor.getMessage("provider-get");
             List<J.Annotation> beanAnnotations = classDeclCursor.getMessage("class-bean-annotations");
-            if (mm != null && mm.matches(md.getMethodType()) && beanAnnotations != null) {
+            if (beanAnnotations != null && isProviderGet(md, classDeclCursor.getValue())) {
                 List<J.Annotation> newBeanAnnotations = beanAnnotations.stream().filter(anno -> !annotationExists(method.getLeadingAnnotations(), anno)).collect(toList());
                 if (!newBeanAnnotations.isEmpty()) {
                     //noinspection ConstantConditions
@@ -125,6 +111,13 @@ public class ProviderImplementationsToMicronautFactories extends Recipe {
             return md;
         }
 
+        private static boolean isProviderGet(J.MethodDeclaration method, J.ClassDeclaration provider) {
+            JavaType.Method methodType = method.getMethodType();
+            return methodType != null && provider.getType() != null &&
+                    "get".equals(methodType.getName()) && methodType.getParameterTypes().isEmpty() &&
+                    provider.getType().getFullyQualifiedName().equals(methodType.getDeclaringType().getFullyQualifiedName());
+        }
+
         private boolean annotationExists(List<J.Annotation> annotations, J.Annotation annotation) {
             return annotations.stream().anyMatch(anno -> {
                 JavaType.FullyQualified fq = TypeUtils.asFullyQualified(anno.getType());
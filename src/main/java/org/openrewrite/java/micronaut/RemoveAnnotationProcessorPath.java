@@ -53,7 +53,7 @@ public class RemoveAnnotationProcessorPath extends Recipe {
                 Xml.Tag plugin = super.visitTag(tag, ctx);
                 if (isPluginTag("org.apache.maven.plugins", "maven-compiler-plugin")) {
                     plugin = maybeUpdatePlugin(plugin);
-                    if (plugin != tag) {
+                    if (plugin != tag && !ApplyDeferredMavenModelUpdates.deferModelUpdate(getCursor())) {
                         maybeUpdateModel();
                     }
                 }
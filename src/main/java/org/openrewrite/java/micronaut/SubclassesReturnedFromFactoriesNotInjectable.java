@@ -24,12 +24,9 @@ import org.openrewrite.java.tree.*;
 import org.openrewrite.marker.Markers;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
 
 public class SubclassesReturnedFromFactoriesNotInjectable extends Recipe {
     private static final AnnotationMatcher FACTORY_ANNOTATION_MATCHER = new AnnotationMatcher("@io.micronaut.context.annotation.Factory");
@@ -42,38 +39,39 @@ public class SubclassesReturnedFromFactoriesNotInjectable extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        return Preconditions.check(new UsesType<>("io.micronaut.context.annotation.Factory", false), new JavaIsoVisitor<ExecutionContext>() {
-            @Override
-            public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
-                J.ClassDeclaration cd = super.visitClassDeclaration(classDecl, ctx);
-                if (cd.getLeadingAnnotations().stream().anyMatch(FACTORY_ANNOTATION_MATCHER::matches)) {
-                    doAfterVisit(new FactoryBeansAreTypeVisitor());
-                }
-                return cd;
-            }
-        });
+        return Preconditions.check(new UsesType<>("io.micronaut.context.annotation.Factory", false), new FactoryBeansAreTypeVisitor());
     }
 
     private static class FactoryBeansAreTypeVisitor extends JavaIsoVisitor<ExecutionContext> {
 
-        private static final List<AnnotationMatcher> BEAN_ANNOTATION_MATCHERS = Stream.concat(
-                        Stream.of("io.micronaut.context.annotation.Context",
-                                        "io.micronaut.context.annotation.Prototype",
-                                        "io.micronaut.context.annotation.Infrastructure",
-                                        "io.micronaut.runtime.context.scope.Refreshable",
-                                        "io.micronaut.runtime.http.scope.RequestScope")
-                                .map(it -> new AnnotationMatcher("@" + it)),
-                        Stream.of("@javax.inject", "@jakarta.inject")
-                                .map(it -> new AnnotationMatcher(it + ".Singleton")))
-                .map(AnnotationMatcher.class::cast).collect(toList());
+        private static final AnnotationTypes BEAN_ANNOTATION_TYPES = new AnnotationTypes(
+                "io.micronaut.context.annotation.Context",
+                "io.micronaut.context.annotation.Prototype",
+                "io.micronaut.context.annotation.Infrastructure",
+                "io.micronaut.runtime.context.scope.Refreshable",
+                "io.micronaut.runtime.http.scope.RequestScope",
+                "javax.inject.Singleton",
+                "jakarta.inject.Singleton");
 
         private static boolean isBeanAnnotation(J.Annotation annotation) {
-            return BEAN_ANNOTATION_MATCHERS.stream().anyMatch(m -> m.matches(annotation));
+            return BEAN_ANNOTATION_TYPES.matches(annotation);
+        }
+
+        @Override
+        public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
+            if (classDecl.getLeadingAnnotations().stream().anyMatch(FACTORY_ANNOTATION_MATCHER::matches)) {
+                // bean methods are narrowed anywhere below a factory class, including its nested classes
+                getCursor().putMessage("factory-class", true);
+            }
+            return super.visitClassDeclaration(classDecl, ctx);
         }
 
         @Override
         public J.Return visitReturn(J.Return _return, ExecutionContext ctx) {
             J.Return rtn = super.visitReturn(_return, ctx);
+            if (!getCursor().getNearestMessage("factory-class", false)) {
+                return rtn;
+            }
             J.MethodDeclaration md = getCursor().firstEnclosing(J.MethodDeclaration.class);
             Expression returnExpression = rtn.getExpression();
             if (md != null && returnExpression != null &&
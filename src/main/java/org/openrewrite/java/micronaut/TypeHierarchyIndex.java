@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The supertypes and interfaces of every type the Micronaut recipes have asked about during a run, shared through
+ * the {@link ExecutionContext}. Types are keyed by identity rather than by name, so the same name attributed
+ * differently in two modules, or re-attributed after a recipe changed it in an earlier cycle, is never answered from
+ * the wrong closure. The transitive closure of each type's ancestors is computed in full, and lookups do not lock,
+ * as the index is shared by recipes that may visit source files concurrently.
+ * <p>
+ * The cached closures hold on to the types they are keyed by, so at most {@link #MAX_CACHED_TYPES} of them are kept.
+ * When that many are cached, the cache is emptied and closures are computed again as they are asked for, which keeps
+ * the index from retaining the types of a whole repository.
+ */
+final class TypeHierarchyIndex {
+    private static final String TYPE_HIERARCHY_INDEX = "org.openrewrite.java.micronaut.typeHierarchyIndex";
+
+    static final int MAX_CACHED_TYPES = 10_000;
+
+    private final Map<TypeKey, Set<String>> ancestorsByType = new ConcurrentHashMap<>();
+
+    private TypeHierarchyIndex() {
+    }
+
+    static TypeHierarchyIndex get(ExecutionContext ctx) {
+        return ctx.computeMessageIfAbsent(TYPE_HIERARCHY_INDEX, k -> new TypeHierarchyIndex());
+    }
+
+    /**
+     * @return Whether the type is the given type or has it as a supertype or interface, directly or transitively.
+     */
+    boolean isSubtypeOf(JavaType.FullyQualified type, String fullyQualifiedName) {
+        return fullyQualifiedName.equals(type.getFullyQualifiedName()) ||
+               ancestors(type).contains(fullyQualifiedName);
+    }
+
+    /**
+     * @return The fully qualified names of all supertypes and interfaces of the type, directly or transitively.
+     */
+    Set<String> ancestorNames(JavaType.FullyQualified type) {
+        return ancestors(type);
+    }
+
+    /**
+     * @return Whether any of the supertypes and interfaces of the type, directly or transitively, is one of the given types.
+     */
+    boolean hasAncestorIn(JavaType.FullyQualified type, Set<String> fullyQualifiedNames) {
+        Set<String> ancestors = ancestors(type);
+        Set<String> smaller = ancestors.size() < fullyQualifiedNames.size() ? ancestors : fullyQualifiedNames;
+        Set<String> larger = smaller == ancestors ? fullyQualifiedNames : ancestors;
+        for (String name : smaller) {
+            if (larger.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<String> ancestors(JavaType.FullyQualified type) {
+        TypeKey key = new TypeKey(type);
+        Set<String> cached = ancestorsByType.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        // walk the whole graph from this type, reusing only closures that are already complete, so a cyclic,
+        // malformed type attribution terminates without caching a partial closure for any type in the cycle
+        Set<String> closure = new HashSet<>();
+        Set<TypeKey> visited = new HashSet<>();
+        visited.add(key);
+        Deque<JavaType.FullyQualified> toVisit = new ArrayDeque<>();
+        pushDirectSupertypes(type, toVisit);
+        while (!toVisit.isEmpty()) {
+            JavaType.FullyQualified ancestor = toVisit.pop();
+            TypeKey ancestorKey = new TypeKey(ancestor);
+            if (!visited.add(ancestorKey)) {
+                continue;
+            }
+            closure.add(ancestor.getFullyQualifiedName());
+            Set<String> ancestorClosure = ancestorsByType.get(ancestorKey);
+            if (ancestorClosure != null) {
+                closure.addAll(ancestorClosure);
+            } else {
+                pushDirectSupertypes(ancestor, toVisit);
+            }
+        }
+        closure.remove(type.getFullyQualifiedName());
+
+        Set<String> computed = Collections.unmodifiableSet(closure);
+        if (ancestorsByType.size() >= MAX_CACHED_TYPES) {
+            ancestorsByType.clear();
+        }
+        Set<String> existing = ancestorsByType.putIfAbsent(key, computed);
+        return existing == null ? computed : existing;
+    }
+
+    int cachedTypes() {
+        return ancestorsByType.size();
+    }
+
+    private static void pushDirectSupertypes(JavaType.FullyQualified type, Deque<JavaType.FullyQualified> toVisit) {
+        if (type.getSupertype() != null) {
+            toVisit.push(type.getSupertype());
+        }
+        for (JavaType.FullyQualified anInterface : type.getInterfaces()) {
+            toVisit.push(anInterface);
+        }
+    }
+
+    /**
+     * Compares types by identity, as the types of the same name in different source sets need not be equal.
+     */
+    private static final class TypeKey {
+        private final JavaType.FullyQualified type;
+
+        TypeKey(JavaType.FullyQualified type) {
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            return o instanceof TypeKey && ((TypeKey) o).type == type;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(type);
+        }
+    }
+}
@@ -15,21 +15,31 @@
  */
 package org.openrewrite.java.micronaut;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.jspecify.annotations.Nullable;
 import org.openrewrite.ExecutionContext;
+import org.openrewrite.Preconditions;
 import org.openrewrite.ScanningRecipe;
+import org.openrewrite.SourceFile;
 import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
 import org.openrewrite.java.AnnotationMatcher;
 import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.JavaParser;
 import org.openrewrite.java.JavaTemplate;
+import org.openrewrite.java.micronaut.table.AccumulatorSizes;
 import org.openrewrite.java.tree.*;
+import org.openrewrite.marker.SearchResult;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TypeRequiresIntrospection extends ScanningRecipe<TypeRequiresIntrospection.Accumulator> {
     private static final Collection<String> typesRequiringIntrospection = Arrays.asList("io.micronaut.http.annotation.Controller", "io.micronaut.http.client.annotation.Client");
@@ -52,6 +62,8 @@ public class TypeRequiresIntrospection extends ScanningRecipe<TypeRequiresIntros
         return false;
     }
 
+    transient AccumulatorSizes accumulatorSizes = new AccumulatorSizes(this);
+
     @Override
     public Accumulator getInitialValue(ExecutionContext ctx) {
         return new Accumulator();
@@ -66,9 +78,17 @@ public class TypeRequiresIntrospection extends ScanningRecipe<TypeRequiresIntros
                 FindParamsAndReturnTypes findParamsAndReturnTypes = new FindParamsAndReturnTypes();
                 if (tree instanceof J.CompilationUnit) {
                     J.CompilationUnit cu = (J.CompilationUnit) tree;
+                    Set<String> introspectableTypeNames = new HashSet<>();
                     for (J.ClassDeclaration classDeclaration : cu.getClasses()) {
                         if (parentRequiresIntrospection(classDeclaration.getType())) {
-                            findParamsAndReturnTypes.visit(classDeclaration, acc.getIntrospectableTypes());
+                            findParamsAndReturnTypes.visit(classDeclaration, introspectableTypeNames);
+                        }
+                    }
+                    acc.addIntrospectableTypeNames(introspectableTypeNames);
+                    for (J.ClassDeclaration classDeclaration : declaredClasses(cu.getClasses())) {
+                        if (classDeclaration.getType() != null) {
+                            acc.addReferencedTypeNames(classDeclaration.getType().getFullyQualifiedName(),
+                                    referencedTypeNames(classDeclaration.getType()));
                         }
                     }
                 }
@@ -77,20 +97,117 @@ public class TypeRequiresIntrospection extends ScanningRecipe<TypeRequiresIntros
         };
     }
 
+    @Override
+    public Collection<? extends SourceFile> generate(Accumulator acc, ExecutionContext ctx) {
+        // rows inserted while a precondition is checked are discarded, so the size is reported here,
+        // once per run, before any source file is visited
+        if (ctx.getCycle() <= 1 && acc.entries() > 0) {
+            accumulatorSizes.insertRow(ctx, getName(), acc.entries(), acc.estimatedRetainedBytes());
+        }
+        return Collections.emptyList();
+    }
+
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor(Accumulator acc) {
-        return new AddIntrospectionAnnotationVisitor(acc.getIntrospectableTypes());
+        Set<String> introspectableTypeNames = acc.getReachableTypeNames();
+        if (introspectableTypeNames.isEmpty()) {
+            return TreeVisitor.noop();
+        }
+
+        return Preconditions.check(new TreeVisitor<Tree, ExecutionContext>() {
+            @Override
+            public @Nullable Tree visit(@Nullable Tree tree, ExecutionContext ctx) {
+                if (tree instanceof JavaSourceFile) {
+                    for (J.ClassDeclaration classDeclaration : declaredClasses(((JavaSourceFile) tree).getClasses())) {
+                        if (classDeclaration.getType() != null && introspectableTypeNames.contains(classDeclaration.getType().getFullyQualifiedName())) {
+                            return SearchResult.found(tree);
+                        }
+                    }
+                }
+                return tree;
+            }
+        }, new AddIntrospectionAnnotationVisitor(introspectableTypeNames));
+    }
+
+    /**
+     * The given classes and their nested classes, found without visiting any other part of the source file.
+     */
+    private static List<J.ClassDeclaration> declaredClasses(List<J.ClassDeclaration> classes) {
+        List<J.ClassDeclaration> declaredClasses = new ArrayList<>();
+        Deque<J.ClassDeclaration> toVisit = new ArrayDeque<>(classes);
+        while (!toVisit.isEmpty()) {
+            J.ClassDeclaration classDeclaration = toVisit.pop();
+            declaredClasses.add(classDeclaration);
+            for (Statement statement : classDeclaration.getBody().getStatements()) {
+                if (statement instanceof J.ClassDeclaration) {
+                    toVisit.push((J.ClassDeclaration) statement);
+                }
+            }
+        }
+        return declaredClasses;
     }
 
-    private static final class FindParamsAndReturnTypes extends JavaIsoVisitor<Set<JavaType.FullyQualified>> {
-        private void maybeAddType(JavaType.@Nullable FullyQualified type, Set<JavaType.FullyQualified> foundTypes) {
+    /**
+     * The names of the types of the instance fields and getters of a type.
+     */
+    private static Set<String> referencedTypeNames(JavaType.FullyQualified type) {
+        Set<String> typeNames = new HashSet<>();
+        for (JavaType.Variable field : type.getMembers()) {
+            if (!field.hasFlags(Flag.Static)) {
+                addTypeNames(field.getType(), typeNames);
+            }
+        }
+        for (JavaType.Method method : type.getMethods()) {
+            if (isGetter(method)) {
+                addTypeNames(method.getReturnType(), typeNames);
+            }
+        }
+        return typeNames;
+    }
+
+    private static boolean isGetter(JavaType.Method method) {
+        String name = method.getName();
+        return !method.hasFlags(Flag.Static) && method.getParameterTypes().isEmpty() &&
+               (name.startsWith("get") && name.length() > 3 || name.startsWith("is") && name.length() > 2);
+    }
+
+    /**
+     * Adds the name of the type along with those of its generic arguments, array element types and type variable bounds.
+     */
+    private static void addTypeNames(@Nullable JavaType type, Set<String> typeNames) {
+        Set<JavaType> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<JavaType> toVisit = new ArrayDeque<>();
+        if (type != null) {
+            toVisit.add(type);
+        }
+        while (!toVisit.isEmpty()) {
+            JavaType next = toVisit.pop();
+            if (!seen.add(next)) {
+                continue;
+            }
+            if (next instanceof JavaType.Parameterized) {
+                toVisit.addAll(((JavaType.Parameterized) next).getTypeParameters());
+            } else if (next instanceof JavaType.Array) {
+                toVisit.add(((JavaType.Array) next).getElemType());
+            } else if (next instanceof JavaType.GenericTypeVariable) {
+                toVisit.addAll(((JavaType.GenericTypeVariable) next).getBounds());
+            }
+            JavaType.FullyQualified fq = TypeUtils.asFullyQualified(next);
+            if (fq != null && !parentRequiresIntrospection(fq)) {
+                typeNames.add(fq.getFullyQualifiedName());
+            }
+        }
+    }
+
+    private static final class FindParamsAndReturnTypes extends DeclarationOnlyVisitor<Set<String>> {
+        private void maybeAddType(JavaType.@Nullable FullyQualified type, Set<String> foundTypes) {
             if (type != null && !TypeRequiresIntrospection.parentRequiresIntrospection(type)) {
-                foundTypes.add(type);
+                addTypeNames(type, foundTypes);
             }
         }
 
         @Override
-        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Set<JavaType.FullyQualified> foundTypes) {
+        public J.MethodDeclaration visitMethodDeclaration(J.MethodDeclaration method, Set<String> foundTypes) {
             if (method.isConstructor()) {
                 return method;
             }
@@ -130,11 +247,11 @@ public class TypeRequiresIntrospection extends ScanningRecipe<TypeRequiresIntros
         private static final String INTROSPECTED = "io.micronaut.core.annotation.Introspected";
         private static final AnnotationMatcher INTROSPECTION_ANNOTATION_MATCHER = new AnnotationMatcher("@" + INTROSPECTED);
 
-        final Set<JavaType.FullyQualified> introspectableTypes;
+        final Set<String> introspectableTypeNames;
 
         @Override
         public J.ClassDeclaration visitClassDeclaration(J.ClassDeclaration classDecl, ExecutionContext ctx) {
-            if (!introspectableTypes.contains(TypeUtils.asFullyQualified(classDecl.getType()))) {
+            if (classDecl.getType() == null || !introspectableTypeNames.contains(classDecl.getType().getFullyQualifiedName())) {
                 return classDecl;
             }
 
@@ -152,8 +269,123 @@ public class TypeRequiresIntrospection extends ScanningRecipe<TypeRequiresIntros
         }
     }
 
+    /**
+     * Holds only type names, so that accumulators of separately scanned parts of a repository can be serialized
+     * and {@link #merge(Accumulator) merged} before the edit phase.
+     */
     @Data
     static class Accumulator {
-        Set<JavaType.FullyQualified> introspectableTypes = new HashSet<>();
+        /**
+         * The parameter and return types of controller and client methods.
+         */
+        final Set<String> introspectableTypeNames = ConcurrentHashMap.newKeySet();
+
+        /**
+         * The types referenced by the fields and getters of each type declared in the repository.
+         */
+        final Map<String, Set<String>> referencedTypeNames = new ConcurrentHashMap<>();
+
+        /**
+         * The memoized result of {@link #getReachableTypeNames()}, cleared whenever the scan results change.
+         */
+        @Nullable
+        @Setter(AccessLevel.NONE)
+        private transient volatile Set<String> reachableTypeNames;
+
+        Accumulator() {
+        }
+
+        /**
+         * Copies deserialized scan results into concurrent collections, so that a deserialized accumulator can
+         * be scanned into and merged like a fresh one.
+         */
+        @JsonCreator
+        Accumulator(@JsonProperty("introspectableTypeNames") @Nullable Collection<String> introspectableTypeNames,
+                    @JsonProperty("referencedTypeNames") @Nullable Map<String, Set<String>> referencedTypeNames) {
+            if (introspectableTypeNames != null) {
+                this.introspectableTypeNames.addAll(introspectableTypeNames);
+            }
+            if (referencedTypeNames != null) {
+                this.referencedTypeNames.putAll(referencedTypeNames);
+            }
+        }
+
+        /**
+         * Adds the scan results of another accumulator to this one. Merging is associative and commutative.
+         */
+        synchronized Accumulator merge(Accumulator other) {
+            introspectableTypeNames.addAll(other.getIntrospectableTypeNames());
+            other.getReferencedTypeNames().forEach((type, referenced) ->
+                    referencedTypeNames.merge(type, referenced, Accumulator::union));
+            reachableTypeNames = null;
+            return this;
+        }
+
+        void addIntrospectableTypeNames(Collection<String> typeNames) {
+            if (introspectableTypeNames.addAll(typeNames)) {
+                reachableTypeNames = null;
+            }
+        }
+
+        /**
+         * Adds the types referenced by a declaration of {@code type}. The same type may be declared in several
+         * modules, so the references of every declaration are kept, as {@link #merge(Accumulator)} does.
+         */
+        synchronized void addReferencedTypeNames(String type, Set<String> referenced) {
+            Set<String> previous = referencedTypeNames.get(type);
+            if (!referencedTypeNames.merge(type, referenced, Accumulator::union).equals(previous)) {
+                reachableTypeNames = null;
+            }
+        }
+
+        private static Set<String> union(Set<String> a, Set<String> b) {
+            Set<String> union = new HashSet<>(a);
+            union.addAll(b);
+            return union;
+        }
+
+        long entries() {
+            long entries = introspectableTypeNames.size();
+            for (Set<String> referenced : referencedTypeNames.values()) {
+                entries += 1 + referenced.size();
+            }
+            return entries;
+        }
+
+        long estimatedRetainedBytes() {
+            long bytes = 0;
+            for (String typeName : introspectableTypeNames) {
+                bytes += AccumulatorSizes.estimateBytes(typeName);
+            }
+            for (Map.Entry<String, Set<String>> entry : referencedTypeNames.entrySet()) {
+                bytes += AccumulatorSizes.estimateBytes(entry.getKey());
+                for (String typeName : entry.getValue()) {
+                    bytes += AccumulatorSizes.estimateBytes(typeName);
+                }
+            }
+            return bytes;
+        }
+
+        /**
+         * The parameter and return types of controllers and clients, together with every type reachable from them
+         * through the fields and getters of types declared in the repository. Each type is expanded at most once,
+         * so cyclic type graphs terminate and the closure is computed only once.
+         */
+        @JsonIgnore
+        synchronized Set<String> getReachableTypeNames() {
+            if (reachableTypeNames != null) {
+                return reachableTypeNames;
+            }
+            Set<String> reachable = new HashSet<>();
+            Deque<String> toVisit = new ArrayDeque<>(introspectableTypeNames);
+            while (!toVisit.isEmpty()) {
+                String type = toVisit.pop();
+                if (reachable.add(type)) {
+                    toVisit.addAll(referencedTypeNames.getOrDefault(type, Collections.emptySet()));
+                }
+            }
+            reachableTypeNames = reachable;
+            return reachable;
+        }
     }
 }
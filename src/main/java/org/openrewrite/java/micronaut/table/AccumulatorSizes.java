@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut.table;
+
+import lombok.Value;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.Recipe;
+
+public class AccumulatorSizes extends DataTable<AccumulatorSizes.Row> {
+
+    /**
+     * The execution context message holding the number of accumulator entries above which a row is flagged.
+     */
+    public static final String ENTRIES_WARNING_THRESHOLD = "org.openrewrite.java.micronaut.accumulatorEntriesWarningThreshold";
+
+    /**
+     * The execution context message holding the estimated number of retained bytes above which a row is flagged.
+     */
+    public static final String BYTES_WARNING_THRESHOLD = "org.openrewrite.java.micronaut.accumulatorBytesWarningThreshold";
+
+    private static final long DEFAULT_ENTRIES_WARNING_THRESHOLD = 1_000_000L;
+    private static final long DEFAULT_BYTES_WARNING_THRESHOLD = 256L * 1024 * 1024;
+
+    public AccumulatorSizes(Recipe recipe) {
+        super(recipe,
+                "Accumulator sizes",
+                "The number of entries and the estimated retained heap of the accumulators of scanning recipes at the end of scanning. " +
+                "Rows are flagged when they exceed the thresholds set in the execution context.");
+    }
+
+    public void insertRow(ExecutionContext ctx, String recipe, long entries, long estimatedRetainedBytes) {
+        Number entriesThreshold = ctx.getMessage(ENTRIES_WARNING_THRESHOLD, DEFAULT_ENTRIES_WARNING_THRESHOLD);
+        Number bytesThreshold = ctx.getMessage(BYTES_WARNING_THRESHOLD, DEFAULT_BYTES_WARNING_THRESHOLD);
+        insertRow(ctx, new Row(recipe, entries, estimatedRetainedBytes,
+                entries > entriesThreshold.longValue() || estimatedRetainedBytes > bytesThreshold.longValue()));
+    }
+
+    /**
+     * A rough estimate of the heap taken by a string held in a collection: the string and its array headers,
+     * one byte per character, and the collection entry pointing at it.
+     */
+    public static long estimateBytes(String s) {
+        return 72L + s.length();
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Recipe",
+                description = "The name of the scanning recipe.")
+        String recipe;
+
+        @Column(displayName = "Entries",
+                description = "The number of entries held by the accumulator.")
+        long entries;
+
+        @Column(displayName = "Estimated retained bytes",
+                description = "A rough estimate of the heap retained by the accumulator.")
+        long estimatedRetainedBytes;
+
+        @Column(displayName = "Over threshold",
+                description = "Whether the entries or the estimated retained bytes exceed the configured warning thresholds.")
+        boolean overThreshold;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut.table;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Column;
+import org.openrewrite.DataTable;
+import org.openrewrite.Recipe;
+
+public class MigrationCandidates extends DataTable<MigrationCandidates.Row> {
+
+    public MigrationCandidates(Recipe recipe) {
+        super(recipe,
+                "Migration candidates",
+                "The number of source files of each module that every recipe of a migration could change.");
+    }
+
+    @Value
+    public static class Row {
+        @Column(displayName = "Module",
+                description = "The directory of the module, relative to the repository root.")
+        String module;
+
+        @Column(displayName = "Micronaut major version",
+                description = "The Micronaut major version declared by the module, if any.")
+        @Nullable
+        Integer micronautMajorVersion;
+
+        @Column(displayName = "Recipe",
+                description = "The name of the recipe of the migration.")
+        String recipe;
+
+        @Column(displayName = "Candidate files",
+                description = "The number of source files of the module that the recipe could change.")
+        int candidateFiles;
+    }
+}
@@ -33,8 +33,7 @@ class AddHttpRequestTypeParameterTest implements RewriteTest {
           "micronaut-security-jwt-4.*",
           "micronaut-security-oauth2-4.*",
           "micronaut-http-4.*",
-          "reactive-streams",
-          "reactor-core"
+          "reactive-streams"
         ));
         spec.recipe(new AddHttpRequestTypeParameter());
         spec.expectedCyclesThatMakeChanges(2);
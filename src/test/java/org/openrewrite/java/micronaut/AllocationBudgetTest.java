@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.yaml.YamlParser;
+
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Runs the recipes that visit the most source files over fixed synthetic corpora and fails when the bytes they
+ * allocate per source file exceed the bytes measured in {@code allocation-budgets.properties} by more than
+ * {@link #MARGIN_PERCENT} percent. Allocation varies between JDKs, so the budgets are only checked on the JDK they
+ * were measured on, and skipped elsewhere. With {@code -PrequireAllocationBudgets}, as the allocation CI job runs them
+ * on the JDK it pins, a budget measured on another JDK or not measured at all fails instead. These tests run in the
+ * {@code allocationTest} task rather than with the other tests.
+ * <p>
+ * {@code ./gradlew allocationTest -PrecordAllocationBudgets} measures the recipes again and rewrites the budgets.
+ */
+@Tag("allocation")
+class AllocationBudgetTest {
+
+    private static final int FILES = 100;
+    private static final int MARGIN_PERCENT = 10;
+    private static final String JDK = "jdk";
+
+    private static final boolean record = Boolean.getBoolean("allocation.budgets.record");
+
+    private static final boolean required = Boolean.getBoolean("allocation.budgets.required");
+
+    private static final Properties budgets = new Properties();
+
+    private static final com.sun.management.ThreadMXBean threadMXBean =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @BeforeAll
+    static void loadBudgets() throws Exception {
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        if (record) {
+            budgets.setProperty(JDK, System.getProperty("java.version"));
+            return;
+        }
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            budgets.load(in);
+        }
+        requireOrAssume(System.getProperty("java.version").equals(budgets.getProperty(JDK)),
+          "allocation budgets were measured on JDK " + budgets.getProperty(JDK) + ", not " + System.getProperty("java.version"));
+    }
+
+    @AfterAll
+    static void recordBudgets() throws Exception {
+        if (record) {
+            // sorted and without the timestamp Properties#store adds, so that measuring again only changes the numbers
+            List<String> lines = new ArrayList<>(Arrays.asList(
+              "# The bytes each recipe allocates per source file of its AllocationBudgetTest corpus, measured on",
+              "# the thread running the recipe, and the JDK they were measured on. AllocationBudgetTest allows",
+              "# " + MARGIN_PERCENT + "% more than these before it fails. Do not edit the numbers by hand: measure them with",
+              "# ./gradlew allocationTest -PrecordAllocationBudgets on the JDK the allocation CI job pins, and",
+              "# again whenever an optimization lands, so that later regressions fail the build."));
+            new TreeMap<>(budgets).forEach((name, bytes) -> lines.add(name + "=" + bytes));
+            Files.write(Paths.get(System.getProperty("allocation.budgets.file")), lines);
+        }
+    }
+
+    @Test
+    void copyNonInheritedAnnotations() {
+        assertWithinBudget(new CopyNonInheritedAnnotations(), ConcurrentScanningTest::syntheticRepository);
+    }
+
+    @Test
+    void typeRequiresIntrospection() {
+        assertWithinBudget(new TypeRequiresIntrospection(), ConcurrentScanningTest::syntheticRepository);
+    }
+
+    @Test
+    void updateSecurityYamlIfNeeded() {
+        assertWithinBudget(new UpdateSecurityYamlIfNeeded(), ctx -> {
+            List<SourceFile> sourceFiles = new ArrayList<>();
+            for (int i = 0; i < FILES; i++) {
+                int n = i;
+                YamlParser.builder().build()
+                  .parse(ctx,
+                    "micronaut:\n" +
+                    "  application:\n" +
+                    "    name: app" + n + "\n" +
+                    "  security:\n" +
+                    "    token:\n" +
+                    "      jwt:\n" +
+                    "        cookie:\n" +
+                    "          enabled: true\n" +
+                    "          cookie-path: /app" + n + "\n" +
+                    "        bearer:\n" +
+                    "          enabled: false\n")
+                  .map(yaml -> yaml.<SourceFile>withSourcePath(Paths.get("src/main/resources/application-" + n + ".yml")))
+                  .forEach(sourceFiles::add);
+            }
+            return sourceFiles;
+        });
+    }
+
+    @Test
+    void fixDeprecatedExceptionHandlerConstructors() {
+        assertWithinBudget(new FixDeprecatedExceptionHandlerConstructors(), ctx -> {
+            List<String> sources = new ArrayList<>();
+            for (int i = 0; i < FILES; i++) {
+                sources.add(String.format(
+                  "package abc;\n" +
+                  "import io.micronaut.validation.exceptions.ConstraintExceptionHandler;\n" +
+                  "public class Handler%1$d extends ConstraintExceptionHandler {\n" +
+                  "}\n", i));
+                sources.add(String.format(
+                  "package abc;\n" +
+                  "public class Service%1$d {\n" +
+                  "    String name() {\n" +
+                  "        return \"service%1$d\";\n" +
+                  "    }\n" +
+                  "}\n", i));
+            }
+            return JavaParser.fromJavaVersion()
+              .classpathFromResources(ctx,
+                "micronaut-core-2.5.13",
+                "micronaut-http-server-2.5.13",
+                "micronaut-http-2.5.13",
+                "micronaut-validation-2.5.13",
+                "jakarta.inject-api-2.*",
+                "validation-api-2.*")
+              .build()
+              .parse(ctx, sources.toArray(new String[0]))
+              .collect(toList());
+        });
+    }
+
+    private static void assertWithinBudget(Recipe recipe, Function<ExecutionContext, List<SourceFile>> corpus) {
+        String name = recipe.getClass().getSimpleName();
+
+        // the first run loads classes and fills caches that later runs share
+        run(recipe, corpus);
+        long allocatedPerFile = run(recipe, corpus);
+
+        if (record) {
+            budgets.setProperty(name, Long.toString(allocatedPerFile));
+            return;
+        }
+        String measured = budgets.getProperty(name);
+        requireOrAssume(measured != null, "no allocation budget has been measured for " + name);
+        assertThat(allocatedPerFile)
+          .as("bytes allocated per source file by %s, measured at %s", name, measured)
+          .isLessThanOrEqualTo(Long.parseLong(measured) * (100 + MARGIN_PERCENT) / 100);
+    }
+
+    private static void requireOrAssume(boolean condition, String message) {
+        if (required) {
+            assertThat(condition).as(message).isTrue();
+        } else {
+            assumeTrue(condition, message);
+        }
+    }
+
+    private static long run(Recipe recipe, Function<ExecutionContext, List<SourceFile>> corpus) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = corpus.apply(ctx);
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        recipe.run(new InMemoryLargeSourceSet(sourceFiles), ctx);
+        return (threadMXBean.getThreadAllocatedBytes(threadId) - before) / sourceFiles.size();
+    }
+}
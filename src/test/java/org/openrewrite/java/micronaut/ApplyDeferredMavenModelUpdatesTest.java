@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.*;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.YamlResourceLoader;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.maven.MavenParser;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.xml.tree.Xml;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApplyDeferredMavenModelUpdatesTest {
+
+    //language=xml
+    private static final String POM = """
+      <project>
+          <groupId>com.mycompany.app</groupId>
+          <artifactId>my-app</artifactId>
+          <version>1</version>
+          <build>
+              <plugins>
+                  <plugin>
+                      <groupId>org.apache.maven.plugins</groupId>
+                      <artifactId>maven-compiler-plugin</artifactId>
+                      <configuration>
+                          <annotationProcessorPaths>
+                              <path>
+                                  <groupId>com.example</groupId>
+                                  <artifactId>first-processor</artifactId>
+                                  <version>1.0.0</version>
+                              </path>
+                              <path>
+                                  <groupId>com.example</groupId>
+                                  <artifactId>second-processor</artifactId>
+                                  <version>1.0.0</version>
+                              </path>
+                          </annotationProcessorPaths>
+                      </configuration>
+                  </plugin>
+              </plugins>
+          </build>
+      </project>
+      """;
+
+    //language=yaml
+    private static final String MIGRATION = """
+      type: specs.openrewrite.org/v1beta/recipe
+      name: org.openrewrite.java.micronaut.test.MigrateLegacyModules
+      displayName: Migrate legacy modules
+      description: Changes an annotation processor path of modules below Micronaut 4, followed by the deferred Maven model updates.
+      preconditions:
+        - org.openrewrite.java.micronaut.ModuleHasMicronautVersionBelow:
+            majorVersion: 4
+      recipeList:
+        - org.openrewrite.java.micronaut.ChangeAnnotationProcessorPath:
+            oldGroupId: com.example
+            oldArtifactId: first-processor
+            newVersion: 2.0.0
+        - org.openrewrite.java.micronaut.ApplyDeferredMavenModelUpdates
+      """;
+
+    @Test
+    void laterRecipesOnTheSameContextUpdateTheirOwnModels() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> poms = MavenParser.builder().build().parse(ctx, POM).collect(toList());
+
+        List<SourceFile> migrated = run(new Migration(), poms, ctx);
+        assertThat(migrated.get(0).printAll()).contains("<version>2.0.0</version>");
+        assertThat(marker(migrated)).isNotSameAs(marker(poms));
+
+        List<SourceFile> changedAfterwards = run(
+          new ChangeAnnotationProcessorPath("com.example", "second-processor", null, null, "3.0.0", null), migrated, ctx);
+        assertThat(changedAfterwards.get(0).printAll()).contains("<version>3.0.0</version>");
+        assertThat(marker(changedAfterwards)).isNotSameAs(marker(migrated));
+    }
+
+    @Test
+    void modulesSkippedByThePreconditionDoNotKeepTheBatchOpen() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> poms = MavenParser.builder().build()
+          .parse(ctx, modulePom("legacy", "3.9.1"), modulePom("current", "4.0.0"))
+          .map(pom -> (SourceFile) pom.withSourcePath(Paths.get(((Xml.Document) pom).getRoot().getChildValue("artifactId").orElseThrow(), "pom.xml")))
+          .collect(toList());
+        Recipe migration = Environment.builder()
+          .load(new YamlResourceLoader(new ByteArrayInputStream(MIGRATION.getBytes(StandardCharsets.UTF_8)), URI.create("rewrite.yml"), new Properties()))
+          .build()
+          .activateRecipes("org.openrewrite.java.micronaut.test.MigrateLegacyModules");
+
+        List<SourceFile> migrated = runAll(migration, poms, ctx);
+        assertThat(migrated.get(0).printAll()).contains("<version>2.0.0</version>");
+        assertThat(marker(migrated.get(0))).isNotSameAs(marker(poms.get(0)));
+        assertThat(migrated.get(1)).isSameAs(poms.get(1));
+
+        List<SourceFile> changedAfterwards = runAll(
+          new ChangeAnnotationProcessorPath("com.example", "second-processor", null, null, "3.0.0", null), migrated, ctx);
+        for (int i = 0; i < poms.size(); i++) {
+            assertThat(changedAfterwards.get(i).printAll()).contains("<version>3.0.0</version>");
+            assertThat(marker(changedAfterwards.get(i))).isNotSameAs(marker(migrated.get(i)));
+        }
+    }
+
+    private static String modulePom(String artifactId, String micronautVersion) {
+        return POM
+          .replace("<artifactId>my-app</artifactId>", "<artifactId>" + artifactId + "</artifactId>")
+          .replace("<build>", "<properties>\n        <micronaut.version>" + micronautVersion + "</micronaut.version>\n    </properties>\n    <build>");
+    }
+
+    /**
+     * @return Every source file after the run, including the unchanged ones, in their original order.
+     */
+    private static List<SourceFile> runAll(Recipe recipe, List<SourceFile> sourceFiles, ExecutionContext ctx) {
+        Map<Path, SourceFile> after = new HashMap<>();
+        for (Result result : recipe.run(new InMemoryLargeSourceSet(sourceFiles), ctx).getChangeset().getAllResults()) {
+            after.put(result.getBefore().getSourcePath(), result.getAfter());
+        }
+        return sourceFiles.stream()
+          .map(sourceFile -> after.getOrDefault(sourceFile.getSourcePath(), sourceFile))
+          .collect(toList());
+    }
+
+    private static List<SourceFile> run(Recipe recipe, List<SourceFile> sourceFiles, ExecutionContext ctx) {
+        return recipe.run(new InMemoryLargeSourceSet(sourceFiles), ctx).getChangeset().getAllResults().stream()
+          .map(Result::getAfter)
+          .collect(toList());
+    }
+
+    private static MavenResolutionResult marker(List<SourceFile> poms) {
+        return marker(poms.get(0));
+    }
+
+    private static MavenResolutionResult marker(SourceFile pom) {
+        return pom.getMarkers().findFirst(MavenResolutionResult.class).orElseThrow();
+    }
+
+    private static class Migration extends Recipe {
+        @Override
+        public String getDisplayName() {
+            return "Change an annotation processor path and apply the deferred model update";
+        }
+
+        @Override
+        public String getDescription() {
+            return "Changes an annotation processor path, followed by the deferred Maven model updates.";
+        }
+
+        @Override
+        public List<Recipe> getRecipeList() {
+            return Arrays.asList(
+              new ChangeAnnotationProcessorPath("com.example", "first-processor", null, null, "2.0.0", null),
+              new ApplyDeferredMavenModelUpdates());
+        }
+    }
+}
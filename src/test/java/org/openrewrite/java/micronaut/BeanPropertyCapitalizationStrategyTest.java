@@ -73,4 +73,37 @@ class BeanPropertyCapitalizationStrategyTest implements RewriteTest {
             }
             """));
     }
+
+    @Test
+    void deCapitalizeBeanWrapperProperty() {
+        rewriteRun(java(
+          """
+            package a.b;
+            import io.micronaut.core.beans.BeanWrapper;
+            import java.util.Optional;
+
+            class T {
+                void p(C c) {
+                    BeanWrapper<C> wrapper = BeanWrapper.getWrapper(c);
+                    Optional<String> p1 = wrapper.getProperty("CName", String.class);
+                    String p2 = wrapper.getRequiredProperty("CName", String.class);
+                    wrapper.setProperty("CName", "value");
+                }
+            }
+            """,
+          """
+            package a.b;
+            import io.micronaut.core.beans.BeanWrapper;
+            import java.util.Optional;
+
+            class T {
+                void p(C c) {
+                    BeanWrapper<C> wrapper = BeanWrapper.getWrapper(c);
+                    Optional<String> p1 = wrapper.getProperty("cName", String.class);
+                    String p2 = wrapper.getRequiredProperty("cName", String.class);
+                    wrapper.setProperty("cName", "value");
+                }
+            }
+            """));
+    }
 }
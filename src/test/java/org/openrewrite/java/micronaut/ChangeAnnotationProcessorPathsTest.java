@@ -0,0 +1,270 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+import org.openrewrite.xml.XmlIsoVisitor;
+import org.openrewrite.xml.tree.Xml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class ChangeAnnotationProcessorPathsTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ChangeAnnotationProcessorPaths(List.of(
+          "com.example:old-processor:com.example:new-processor:2.0.0",
+          "com.example:*-processor::::com.example:excluded")));
+    }
+
+    @DocumentExample
+    @Test
+    void appliesAllMatchingRules() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <build>
+                      <plugins>
+                          <plugin>
+                              <groupId>org.apache.maven.plugins</groupId>
+                              <artifactId>maven-compiler-plugin</artifactId>
+                              <configuration>
+                                  <annotationProcessorPaths>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>old-processor</artifactId>
+                                          <version>1.0.0</version>
+                                      </path>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>other</artifactId>
+                                          <version>1.0.0</version>
+                                      </path>
+                                  </annotationProcessorPaths>
+                              </configuration>
+                          </plugin>
+                      </plugins>
+                  </build>
+              </project>
+              """,
+            """
+              <project>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <build>
+                      <plugins>
+                          <plugin>
+                              <groupId>org.apache.maven.plugins</groupId>
+                              <artifactId>maven-compiler-plugin</artifactId>
+                              <configuration>
+                                  <annotationProcessorPaths>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>new-processor</artifactId>
+                                          <version>2.0.0</version>
+                                          <exclusions>
+                                              <exclusion>
+                                                  <groupId>com.example</groupId>
+                                                  <artifactId>excluded</artifactId>
+                                              </exclusion>
+                                          </exclusions>
+                                      </path>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>other</artifactId>
+                                          <version>1.0.0</version>
+                                      </path>
+                                  </annotationProcessorPaths>
+                              </configuration>
+                          </plugin>
+                      </plugins>
+                  </build>
+              </project>
+              """
+          )
+        );
+    }
+
+    @Test
+    void copiesExclusionsForEveryPath() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <build>
+                      <plugins>
+                          <plugin>
+                              <groupId>org.apache.maven.plugins</groupId>
+                              <artifactId>maven-compiler-plugin</artifactId>
+                              <configuration>
+                                  <annotationProcessorPaths>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>a-processor</artifactId>
+                                          <version>1.0.0</version>
+                                      </path>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>b-processor</artifactId>
+                                          <version>1.0.0</version>
+                                      </path>
+                                  </annotationProcessorPaths>
+                              </configuration>
+                          </plugin>
+                      </plugins>
+                  </build>
+              </project>
+              """,
+            """
+              <project>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <build>
+                      <plugins>
+                          <plugin>
+                              <groupId>org.apache.maven.plugins</groupId>
+                              <artifactId>maven-compiler-plugin</artifactId>
+                              <configuration>
+                                  <annotationProcessorPaths>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>a-processor</artifactId>
+                                          <version>1.0.0</version>
+                                          <exclusions>
+                                              <exclusion>
+                                                  <groupId>com.example</groupId>
+                                                  <artifactId>excluded</artifactId>
+                                              </exclusion>
+                                          </exclusions>
+                                      </path>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>b-processor</artifactId>
+                                          <version>1.0.0</version>
+                                          <exclusions>
+                                              <exclusion>
+                                                  <groupId>com.example</groupId>
+                                                  <artifactId>excluded</artifactId>
+                                              </exclusion>
+                                          </exclusions>
+                                      </path>
+                                  </annotationProcessorPaths>
+                              </configuration>
+                          </plugin>
+                      </plugins>
+                  </build>
+              </project>
+              """,
+            spec -> spec.afterRecipe(document -> {
+                List<UUID> exclusionsIds = new ArrayList<>();
+                new XmlIsoVisitor<List<UUID>>() {
+                    @Override
+                    public Xml.Tag visitTag(Xml.Tag tag, List<UUID> ids) {
+                        if ("exclusions".equals(tag.getName())) {
+                            ids.add(tag.getId());
+                        }
+                        return super.visitTag(tag, ids);
+                    }
+                }.visit(document, exclusionsIds);
+                assertThat(exclusionsIds).hasSize(2).doesNotHaveDuplicates();
+            })
+          )
+        );
+    }
+
+    @Test
+    void blankExclusionsRemoveExistingOnes() {
+        rewriteRun(
+          spec -> spec.recipe(new ChangeAnnotationProcessorPaths(List.of("com.example:a-processor:::: , "))),
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <build>
+                      <plugins>
+                          <plugin>
+                              <groupId>org.apache.maven.plugins</groupId>
+                              <artifactId>maven-compiler-plugin</artifactId>
+                              <configuration>
+                                  <annotationProcessorPaths>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>a-processor</artifactId>
+                                          <version>1.0.0</version>
+                                          <exclusions>
+                                              <exclusion>
+                                                  <groupId>com.example</groupId>
+                                                  <artifactId>excluded</artifactId>
+                                              </exclusion>
+                                          </exclusions>
+                                      </path>
+                                  </annotationProcessorPaths>
+                              </configuration>
+                          </plugin>
+                      </plugins>
+                  </build>
+              </project>
+              """,
+            """
+              <project>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <build>
+                      <plugins>
+                          <plugin>
+                              <groupId>org.apache.maven.plugins</groupId>
+                              <artifactId>maven-compiler-plugin</artifactId>
+                              <configuration>
+                                  <annotationProcessorPaths>
+                                      <path>
+                                          <groupId>com.example</groupId>
+                                          <artifactId>a-processor</artifactId>
+                                          <version>1.0.0</version>
+                                      </path>
+                                  </annotationProcessorPaths>
+                              </configuration>
+                          </plugin>
+                      </plugins>
+                  </build>
+              </project>
+              """
+          )
+        );
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentScanningTest {
+
+    static final int CLASSES = 200;
+    private static final int THREADS = 16;
+
+    @Test
+    void scanningConcurrentlyGivesTheSameResults() throws Exception {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = syntheticRepository(ctx);
+
+        TypeRequiresIntrospection typeRequiresIntrospection = new TypeRequiresIntrospection();
+        TypeRequiresIntrospection.Accumulator sequentialIntrospection = typeRequiresIntrospection.getInitialValue(ctx);
+        sourceFiles.forEach(s -> typeRequiresIntrospection.getScanner(sequentialIntrospection).visit(s, ctx));
+        TypeRequiresIntrospection.Accumulator concurrentIntrospection = typeRequiresIntrospection.getInitialValue(ctx);
+        scanConcurrently(sourceFiles, s -> typeRequiresIntrospection.getScanner(concurrentIntrospection).visit(s, ctx));
+
+        CopyNonInheritedAnnotations copyNonInheritedAnnotations = new CopyNonInheritedAnnotations();
+        CopyNonInheritedAnnotations.Accumulator sequentialAnnotations = copyNonInheritedAnnotations.getInitialValue(ctx);
+        sourceFiles.forEach(s -> copyNonInheritedAnnotations.getScanner(sequentialAnnotations).visit(s, ctx));
+        CopyNonInheritedAnnotations.Accumulator concurrentAnnotations = copyNonInheritedAnnotations.getInitialValue(ctx);
+        scanConcurrently(sourceFiles, s -> copyNonInheritedAnnotations.getScanner(concurrentAnnotations).visit(s, ctx));
+
+        assertThat(sequentialIntrospection.getReachableTypeNames()).contains("a.b.Dto0", "a.b.Nested" + (CLASSES - 1));
+        assertThat(concurrentIntrospection.getReachableTypeNames()).isEqualTo(sequentialIntrospection.getReachableTypeNames());
+        assertThat(annotationNames(concurrentAnnotations)).hasSize(CLASSES).isEqualTo(annotationNames(sequentialAnnotations));
+        // the same @Requires and @Experimental on every base class are kept only once
+        Set<J.Annotation> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        sequentialAnnotations.getParentAnnotationsByType().values().forEach(distinct::addAll);
+        assertThat(distinct).hasSize(2);
+    }
+
+    @Test
+    void reachableTypesIncludeTypesScannedAfterTheyWereComputed() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = syntheticRepository(ctx);
+
+        TypeRequiresIntrospection typeRequiresIntrospection = new TypeRequiresIntrospection();
+        TypeRequiresIntrospection.Accumulator acc = typeRequiresIntrospection.getInitialValue(ctx);
+        // Controller0, Dto0, Nested0 and Base0, as in a first cycle
+        sourceFiles.subList(0, 4).forEach(s -> typeRequiresIntrospection.getScanner(acc).visit(s, ctx));
+        assertThat(acc.getReachableTypeNames()).containsExactlyInAnyOrder("a.b.Dto0", "a.b.Nested0");
+
+        // Controller1, Dto1, Nested1 and Base1, as in a later cycle that produced new sources
+        sourceFiles.subList(4, 8).forEach(s -> typeRequiresIntrospection.getScanner(acc).visit(s, ctx));
+        assertThat(acc.getReachableTypeNames()).containsExactlyInAnyOrder("a.b.Dto0", "a.b.Nested0", "a.b.Dto1", "a.b.Nested1");
+    }
+
+    static void scanConcurrently(List<SourceFile> sourceFiles, Consumer<SourceFile> scan) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> scans = new ArrayList<>();
+            for (SourceFile sourceFile : sourceFiles) {
+                scans.add(executor.submit(() -> scan.accept(sourceFile)));
+            }
+            for (Future<?> future : scans) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static Map<String, List<String>> annotationNames(CopyNonInheritedAnnotations.Accumulator acc) {
+        Map<String, List<String>> annotationNames = new TreeMap<>();
+        acc.getParentAnnotationsByType().forEach((type, annotations) ->
+          annotationNames.put(type, annotations.stream().map(J.Annotation::getSimpleName).sorted().collect(toList())));
+        return annotationNames;
+    }
+
+    static List<SourceFile> syntheticRepository(ExecutionContext ctx) {
+        List<String> sources = new ArrayList<>();
+        for (int i = 0; i < CLASSES; i++) {
+            sources.add(String.format(
+              "package a.b;\n" +
+              "import io.micronaut.http.annotation.Controller;\n" +
+              "import io.micronaut.http.annotation.Get;\n" +
+              "@Controller\n" +
+              "public class Controller%1$d {\n" +
+              "    @Get\n" +
+              "    public Dto%1$d get(Dto%1$d dto) {\n" +
+              "        return dto;\n" +
+              "    }\n" +
+              "}\n", i));
+            sources.add(String.format(
+              "package a.b;\n" +
+              "public class Dto%1$d {\n" +
+              "    Nested%1$d nested;\n" +
+              "}\n", i));
+            sources.add(String.format(
+              "package a.b;\n" +
+              "public class Nested%1$d {\n" +
+              "}\n", i));
+            sources.add(String.format(
+              "package a.b;\n" +
+              "import io.micronaut.context.annotation.Requires;\n" +
+              "import io.micronaut.core.annotation.Experimental;\n" +
+              "@Requires\n" +
+              "@Experimental\n" +
+              "public abstract class Base%1$d {\n" +
+              "}\n", i));
+        }
+        return JavaParser.fromJavaVersion()
+          .dependsOn(
+            "package io.micronaut.http.annotation; public @interface Controller {}",
+            "package io.micronaut.http.annotation; public @interface Get {}",
+            "package io.micronaut.context.annotation; public @interface Requires {}",
+            "package io.micronaut.core.annotation; public @interface Experimental {}")
+          .build()
+          .parse(ctx, sources.toArray(new String[0]))
+          .collect(toList());
+    }
+}
@@ -18,11 +18,19 @@ package org.openrewrite.java.micronaut;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
+import org.openrewrite.ExecutionContext;
 import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Preconditions;
+import org.openrewrite.SourceFile;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class CopyNonInheritedAnnotationsTest implements RewriteTest {
@@ -362,6 +370,130 @@ class CopyNonInheritedAnnotationsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void keepsTheAttributionOfAnnotationArguments() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              package x;
+              import io.micronaut.scheduling.annotation.ExecuteOn;
+              
+              class Executors {
+                  static final String NAME = "scheduled";
+              }
+              
+              @ExecuteOn(Executors.NAME)
+              abstract class Base {
+              }
+              
+              class Service extends Base {
+              }
+              """,
+            """
+              package x;
+              import io.micronaut.scheduling.annotation.ExecuteOn;
+              
+              class Executors {
+                  static final String NAME = "scheduled";
+              }
+              
+              @ExecuteOn(Executors.NAME)
+              abstract class Base {
+              }
+              
+              @ExecuteOn(Executors.NAME)
+              class Service extends Base {
+              }
+              """
+          ),
+          java(
+            """
+              package y;
+              import io.micronaut.scheduling.annotation.ExecuteOn;
+              
+              class Executors {
+                  static final String NAME = "scheduled";
+              }
+              
+              @ExecuteOn(Executors.NAME)
+              abstract class Base {
+              }
+              
+              class Service extends Base {
+              }
+              """,
+            """
+              package y;
+              import io.micronaut.scheduling.annotation.ExecuteOn;
+              
+              class Executors {
+                  static final String NAME = "scheduled";
+              }
+              
+              @ExecuteOn(Executors.NAME)
+              abstract class Base {
+              }
+              
+              @ExecuteOn(Executors.NAME)
+              class Service extends Base {
+              }
+              """,
+            spec -> spec.afterRecipe(cu -> assertThat(cu.getTypesInUse().getTypesInUse())
+              .noneMatch(type -> TypeUtils.isOfClassType(type, "x.Executors")))
+          )
+        );
+    }
+
+    @Test
+    void refreshableFromSuperInterface() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              package abc;
+              import io.micronaut.runtime.context.scope.Refreshable;
+              
+              @Refreshable
+              public interface BaseApi {
+              }
+              
+              public interface OrderApi extends BaseApi {
+              }
+              """,
+            """
+              package abc;
+              import io.micronaut.runtime.context.scope.Refreshable;
+              
+              @Refreshable
+              public interface BaseApi {
+              }
+              
+              @Refreshable
+              public interface OrderApi extends BaseApi {
+              }
+              """
+          ),
+          java(
+            """
+              package abc;
+              
+              public abstract class AbstractOrderController implements OrderApi {
+              }
+              """,
+            """
+              package abc;
+              
+              import io.micronaut.runtime.context.scope.Refreshable;
+              
+              @Refreshable
+              public abstract class AbstractOrderController implements OrderApi {
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void combineAnnotationsFromSuperAndInterface() {
         //language=java
@@ -455,6 +587,114 @@ class CopyNonInheritedAnnotationsTest implements RewriteTest {
         );
     }
 
+    @Test
+    void leavesClassesWithoutAnnotatedAncestorsUnchanged() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              package abc;
+              import io.micronaut.runtime.context.scope.Refreshable;
+
+              @Refreshable
+              public abstract class BaseController {
+              }
+              """
+          ),
+          java(
+            """
+              package abc;
+              import a.b.C;
+
+              public class Unrelated extends C {
+                  Runnable task = new Runnable() {
+                      @Override
+                      public void run() {
+                      }
+                  };
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void skipsResolvedHierarchiesWithoutAnnotatedAncestors() {
+        //language=java
+        assertThat(passesPrecondition(
+          """
+            package abc;
+            import io.micronaut.runtime.context.scope.Refreshable;
+            
+            @Refreshable
+            public abstract class BaseController {
+            }
+            """,
+          """
+            package abc;
+            
+            public abstract class PlainController implements Runnable {
+            }
+            """,
+          """
+            package abc;
+            
+            public class Unrelated extends PlainController {
+                @Override
+                public void run() {
+                }
+            }
+            """
+        )).isFalse();
+    }
+
+    @Test
+    void processesClassesWithTransitivelyAnnotatedAncestors() {
+        //language=java
+        assertThat(passesPrecondition(
+          """
+            package abc;
+            import io.micronaut.runtime.context.scope.Refreshable;
+            
+            @Refreshable
+            public abstract class BaseController {
+            }
+            """,
+          """
+            package abc;
+            
+            public abstract class MiddleController extends BaseController {
+            }
+            """,
+          """
+            package abc;
+            
+            public class MyController extends MiddleController {
+            }
+            """
+        )).isTrue();
+    }
+
+    /**
+     * Scans all the sources and checks whether the precondition of the edit phase lets the last of them through.
+     */
+    private static boolean passesPrecondition(String... sources) {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = JavaParser.fromJavaVersion()
+          .classpathFromResources(ctx, "micronaut-core-2.5.13", "micronaut-context-2.5.13")
+          .build()
+          .parse(ctx, sources)
+          .collect(toList());
+
+        CopyNonInheritedAnnotations recipe = new CopyNonInheritedAnnotations();
+        CopyNonInheritedAnnotations.Accumulator acc = recipe.getInitialValue(ctx);
+        for (SourceFile sourceFile : sourceFiles) {
+            recipe.getScanner(acc).visit(sourceFile, ctx);
+        }
+        SourceFile last = sourceFiles.get(sourceFiles.size() - 1);
+        return ((Preconditions.Check) recipe.getVisitor(acc)).getCheck().visit(last, ctx) != last;
+    }
+
     @Disabled("JavaType.Class does not contain method info.  https://github.com/openrewrite/rewrite/issues/150")
     @Test
     void refreshableMethodOverride() {
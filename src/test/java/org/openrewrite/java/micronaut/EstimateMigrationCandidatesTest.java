@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.micronaut.table.MigrationCandidates;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.*;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+class EstimateMigrationCandidatesTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new EstimateMigrationCandidates("org.openrewrite.java.micronaut.OncePerRequestHttpServerFilterToHttpServerFilter", 4))
+          .parser(JavaParser.fromJavaVersion().dependsOn(
+            "package io.micronaut.http.filter; public abstract class OncePerRequestHttpServerFilter {}"));
+    }
+
+    @Test
+    void countsFilesTheRecipeWouldChangeInModulesToMigrate() {
+        rewriteRun(
+          spec -> spec.dataTable(MigrationCandidates.Row.class, rows -> assertThat(rows).containsExactly(
+            new MigrationCandidates.Row("app", 3, "org.openrewrite.java.micronaut.OncePerRequestHttpServerFilterToHttpServerFilter", 1))),
+          mavenProject("app",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.mycompany.app</groupId>
+                    <artifactId>app</artifactId>
+                    <version>1</version>
+                    <properties>
+                        <micronaut.version>3.9.1</micronaut.version>
+                    </properties>
+                </project>
+                """
+            ),
+            srcMainJava(
+              //language=java
+              java(
+                """
+                  import io.micronaut.http.filter.OncePerRequestHttpServerFilter;
+
+                  class A extends OncePerRequestHttpServerFilter {
+                  }
+                  """
+              ),
+              //language=java
+              java(
+                """
+                  class B {
+                  }
+                  """
+              )
+            )
+          ),
+          mavenProject("migrated",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.mycompany.app</groupId>
+                    <artifactId>migrated</artifactId>
+                    <version>1</version>
+                    <properties>
+                        <micronaut.version>4.0.0</micronaut.version>
+                    </properties>
+                </project>
+                """
+            ),
+            srcMainJava(
+              //language=java
+              java(
+                """
+                  import io.micronaut.http.filter.OncePerRequestHttpServerFilter;
+
+                  class C extends OncePerRequestHttpServerFilter {
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+
+    @Test
+    void estimatesTheMicronaut3to4Migration() {
+        rewriteRun(
+          spec -> spec.recipe(new EstimateMigrationCandidates("org.openrewrite.java.micronaut.Micronaut3to4Migration", 4))
+            .parser(JavaParser.fromJavaVersion().dependsOn("package javax.annotation; public @interface PostConstruct {}"))
+            .dataTable(MigrationCandidates.Row.class, rows -> {
+                // javax.annotation is relocated to jakarta.annotation for A only
+                assertThat(rows).contains(new MigrationCandidates.Row("app", 3, "org.openrewrite.java.ChangePackage", 1));
+                assertThat(rows).allMatch(row -> "app".equals(row.getModule()));
+                // a scanning recipe cannot be estimated without scanning the whole repository first
+                assertThat(rows).extracting(MigrationCandidates.Row::getRecipe)
+                  .doesNotContain("org.openrewrite.java.micronaut.ApplyDeferredMavenModelUpdates");
+            }),
+          mavenProject("app",
+            //language=xml
+            pomXml(
+              """
+                <project>
+                    <modelVersion>4.0.0</modelVersion>
+                    <groupId>com.mycompany.app</groupId>
+                    <artifactId>app</artifactId>
+                    <version>1</version>
+                    <properties>
+                        <micronaut.version>3.9.1</micronaut.version>
+                    </properties>
+                </project>
+                """
+            ),
+            srcMainJava(
+              //language=java
+              java(
+                """
+                  import javax.annotation.PostConstruct;
+
+                  class A {
+                      @PostConstruct
+                      void init() {
+                      }
+                  }
+                  """
+              ),
+              //language=java
+              java(
+                """
+                  class B {
+                  }
+                  """
+              )
+            )
+          )
+        );
+    }
+}
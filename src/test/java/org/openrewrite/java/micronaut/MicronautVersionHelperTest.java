@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.maven.MavenDownloadingException;
+import org.openrewrite.maven.MavenExecutionContextView;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MicronautVersionHelperTest {
+
+    @Test
+    void timesVersionResolution() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            ExecutionContext ctx = new InMemoryExecutionContext();
+            // no repositories, so the resolution fails quickly without reaching the network
+            MavenExecutionContextView mavenCtx = MavenExecutionContextView.view(ctx);
+            mavenCtx.setAddCentralRepository(false);
+            mavenCtx.setRepositories(emptyList());
+            try {
+                MicronautVersionHelper.getNewerVersion("4.x", "4.0.0", ctx);
+            } catch (MavenDownloadingException ignored) {
+                // the timer is recorded for failed resolutions too
+            }
+
+            long count = 0;
+            for (Timer timer : registry.find("rewrite.micronaut.version.resolve")
+              .tag("artifact", "io.micronaut.platform:micronaut-parent")
+              .timers()) {
+                count += timer.count();
+            }
+            assertThat(count).isEqualTo(1);
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    void timesVersionResolutionFailingWithRuntimeException() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            ExecutionContext ctx = new InMemoryExecutionContext() {
+                @Override
+                public <T> T getMessage(String key) {
+                    throw new IllegalStateException("unreadable settings");
+                }
+            };
+            assertThatThrownBy(() -> MicronautVersionHelper.getNewerVersion("4.x", "4.0.0", ctx))
+              .isInstanceOf(IllegalStateException.class);
+
+            long count = 0;
+            for (Timer timer : registry.find("rewrite.micronaut.version.resolve")
+              .tag("artifact", "io.micronaut.platform:micronaut-parent")
+              .tag("outcome", "error")
+              .timers()) {
+                count += timer.count();
+            }
+            assertThat(count).isEqualTo(1);
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.DocumentExample;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.openrewrite.java.Assertions.java;
+import static org.openrewrite.java.Assertions.srcMainJava;
+import static org.openrewrite.maven.Assertions.pomXml;
+import static org.openrewrite.properties.Assertions.properties;
+
+class ModuleHasMicronautVersionBelowTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(new ModuleHasMicronautVersionBelow(4));
+    }
+
+    @DocumentExample
+    @Test
+    void marksModuleOnOlderVersion() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <properties>
+                      <micronaut.version>3.9.1</micronaut.version>
+                  </properties>
+              </project>
+              """,
+            """
+              <!--~~>--><project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <properties>
+                      <micronaut.version>3.9.1</micronaut.version>
+                  </properties>
+              </project>
+              """
+          ),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                class A {
+                }
+                """,
+              """
+                /*~~>*/class A {
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void skipsModuleAlreadyOnVersion() {
+        rewriteRun(
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <properties>
+                      <micronaut.version>4.0.0</micronaut.version>
+                  </properties>
+              </project>
+              """
+          ),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                class A {
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void skipsGradleModuleAlreadyOnVersion() {
+        rewriteRun(
+          properties("micronautVersion=4.0.0", s -> s.path("gradle.properties")),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                class A {
+                }
+                """
+            )
+          )
+        );
+    }
+
+    @Test
+    void marksModuleWithUnknownVersion() {
+        rewriteRun(
+          //language=java
+          java(
+            """
+              class A {
+              }
+              """,
+            """
+              /*~~>*/class A {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsMigratingModuleAfterVersionBumpInFirstCycle() {
+        rewriteRun(
+          spec -> spec
+            .recipeFromYaml(
+              //language=yaml
+              """
+                type: specs.openrewrite.org/v1beta/recipe
+                name: org.openrewrite.java.micronaut.test.TwoCycleMigration
+                displayName: Two cycle migration
+                description: Bumps the Micronaut version in the first cycle and renames a type only in the second.
+                preconditions:
+                  - org.openrewrite.java.micronaut.ModuleHasMicronautVersionBelow:
+                      majorVersion: 4
+                recipeList:
+                  - org.openrewrite.java.ChangeType:
+                      oldFullyQualifiedTypeName: b.B
+                      newFullyQualifiedTypeName: c.C
+                  - org.openrewrite.java.ChangeType:
+                      oldFullyQualifiedTypeName: a.A
+                      newFullyQualifiedTypeName: b.B
+                  - org.openrewrite.maven.ChangePropertyValue:
+                      key: micronaut.version
+                      newValue: 4.0.0
+                """,
+              "org.openrewrite.java.micronaut.test.TwoCycleMigration")
+            .parser(JavaParser.fromJavaVersion().dependsOn(
+              "package a; public class A {}",
+              "package b; public class B {}",
+              "package c; public class C {}"))
+            .expectedCyclesThatMakeChanges(2),
+          //language=xml
+          pomXml(
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <properties>
+                      <micronaut.version>3.9.1</micronaut.version>
+                  </properties>
+              </project>
+              """,
+            """
+              <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.mycompany.app</groupId>
+                  <artifactId>my-app</artifactId>
+                  <version>1</version>
+                  <properties>
+                      <micronaut.version>4.0.0</micronaut.version>
+                  </properties>
+              </project>
+              """
+          ),
+          srcMainJava(
+            //language=java
+            java(
+              """
+                import a.A;
+
+                class Uses {
+                    A a;
+                }
+                """,
+              """
+                import c.C;
+
+                class Uses {
+                    C a;
+                }
+                """
+            )
+          )
+        );
+    }
+}
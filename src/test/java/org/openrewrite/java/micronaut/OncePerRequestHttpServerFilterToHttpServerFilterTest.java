@@ -30,8 +30,7 @@ class OncePerRequestHttpServerFilterToHttpServerFilterTest implements RewriteTes
         spec.parser(JavaParser.fromJavaVersion().classpathFromResources(new InMemoryExecutionContext(),
             "micronaut-http-2.5.13",
             "micronaut-core-2.5.13",
-            "reactive-streams",
-            "reactor-core"))
+            "reactive-streams"))
           .recipe(new OncePerRequestHttpServerFilterToHttpServerFilter());
     }
 
@@ -169,4 +168,53 @@ class OncePerRequestHttpServerFilterToHttpServerFilterTest implements RewriteTes
           )
         );
     }
+
+    @Test
+    void renamesCallSitesInSameFile() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              package a.b;
+
+              import io.micronaut.http.HttpRequest;
+              import io.micronaut.http.MutableHttpResponse;
+              import io.micronaut.http.filter.OncePerRequestHttpServerFilter;
+              import io.micronaut.http.filter.ServerFilterChain;
+              import org.reactivestreams.Publisher;
+
+              public class MyServerFilter extends OncePerRequestHttpServerFilter {
+                  @Override
+                  protected Publisher<MutableHttpResponse<?>> doFilterOnce(HttpRequest<?> request, ServerFilterChain chain) {
+                      return chain.proceed(request);
+                  }
+
+                  Publisher<MutableHttpResponse<?>> delegate(HttpRequest<?> request, ServerFilterChain chain) {
+                      return doFilterOnce(request, chain);
+                  }
+              }
+              """,
+            """
+              package a.b;
+
+              import io.micronaut.http.HttpRequest;
+              import io.micronaut.http.MutableHttpResponse;
+              import io.micronaut.http.filter.HttpServerFilter;
+              import io.micronaut.http.filter.ServerFilterChain;
+              import org.reactivestreams.Publisher;
+
+              public class MyServerFilter implements HttpServerFilter {
+                  @Override
+                  public Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+                      return chain.proceed(request);
+                  }
+
+                  Publisher<MutableHttpResponse<?>> delegate(HttpRequest<?> request, ServerFilterChain chain) {
+                      return doFilter(request, chain);
+                  }
+              }
+              """
+          )
+        );
+    }
 }
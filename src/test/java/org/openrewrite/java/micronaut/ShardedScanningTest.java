@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.java.tree.J;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.micronaut.ConcurrentScanningTest.annotationNames;
+import static org.openrewrite.java.micronaut.ConcurrentScanningTest.scanConcurrently;
+import static org.openrewrite.java.micronaut.ConcurrentScanningTest.syntheticRepository;
+
+class ShardedScanningTest {
+
+    private static final int SHARDS = 3;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void mergedShardsGiveTheSameResultsAsOneScan() throws Exception {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = syntheticRepository(ctx);
+        List<List<SourceFile>> shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (int i = 0; i < sourceFiles.size(); i++) {
+            shards.get(i % SHARDS).add(sourceFiles.get(i));
+        }
+
+        TypeRequiresIntrospection typeRequiresIntrospection = new TypeRequiresIntrospection();
+        TypeRequiresIntrospection.Accumulator wholeIntrospection = scanIntrospection(typeRequiresIntrospection, sourceFiles, ctx);
+        List<TypeRequiresIntrospection.Accumulator> shardIntrospection = new ArrayList<>();
+        for (List<SourceFile> shard : shards) {
+            // as if each shard was scanned in another process
+            String serialized = mapper.writeValueAsString(scanIntrospection(typeRequiresIntrospection, shard, ctx));
+            shardIntrospection.add(mapper.readValue(serialized, TypeRequiresIntrospection.Accumulator.class));
+        }
+
+        CopyNonInheritedAnnotations copyNonInheritedAnnotations = new CopyNonInheritedAnnotations();
+        CopyNonInheritedAnnotations.Accumulator wholeAnnotations = scanAnnotations(copyNonInheritedAnnotations, sourceFiles, ctx);
+        List<CopyNonInheritedAnnotations.Accumulator> shardAnnotations = new ArrayList<>();
+        for (List<SourceFile> shard : shards) {
+            shardAnnotations.add(scanAnnotations(copyNonInheritedAnnotations, shard, ctx));
+        }
+
+        TypeRequiresIntrospection.Accumulator leftIntrospection = new TypeRequiresIntrospection.Accumulator()
+          .merge(new TypeRequiresIntrospection.Accumulator().merge(shardIntrospection.get(0)).merge(shardIntrospection.get(1)))
+          .merge(shardIntrospection.get(2));
+        TypeRequiresIntrospection.Accumulator rightIntrospection = new TypeRequiresIntrospection.Accumulator()
+          .merge(shardIntrospection.get(0))
+          .merge(new TypeRequiresIntrospection.Accumulator().merge(shardIntrospection.get(1)).merge(shardIntrospection.get(2)));
+        assertThat(leftIntrospection.getReachableTypeNames())
+          .isEqualTo(rightIntrospection.getReachableTypeNames())
+          .isEqualTo(wholeIntrospection.getReachableTypeNames());
+
+        CopyNonInheritedAnnotations.Accumulator mergedAnnotations = new CopyNonInheritedAnnotations.Accumulator();
+        shardAnnotations.forEach(mergedAnnotations::merge);
+        assertThat(annotationNames(mergedAnnotations)).isEqualTo(annotationNames(wholeAnnotations));
+        // each shard kept its own copy of @Requires and @Experimental, merging keeps only one of each
+        Set<J.Annotation> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        mergedAnnotations.getParentAnnotationsByType().values().forEach(distinct::addAll);
+        assertThat(distinct).hasSize(2);
+        assertThat(mergedAnnotations.getDistinctAnnotations()).hasSize(2);
+    }
+
+    @Test
+    void deserializedAccumulatorCanBeScannedInto() throws Exception {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        List<SourceFile> sourceFiles = syntheticRepository(ctx);
+        int half = sourceFiles.size() / 2;
+
+        TypeRequiresIntrospection typeRequiresIntrospection = new TypeRequiresIntrospection();
+        TypeRequiresIntrospection.Accumulator wholeIntrospection = scanIntrospection(typeRequiresIntrospection, sourceFiles, ctx);
+
+        String serialized = mapper.writeValueAsString(scanIntrospection(typeRequiresIntrospection, sourceFiles.subList(0, half), ctx));
+        TypeRequiresIntrospection.Accumulator resumed = mapper.readValue(serialized, TypeRequiresIntrospection.Accumulator.class);
+        assertThat(resumed.getIntrospectableTypeNames()).isInstanceOf(ConcurrentHashMap.KeySetView.class);
+        assertThat(resumed.getReferencedTypeNames()).isInstanceOf(ConcurrentHashMap.class);
+
+        // the rest of the repository is scanned into the deserialized accumulator, as the scanners would
+        scanConcurrently(sourceFiles.subList(half, sourceFiles.size()),
+          s -> typeRequiresIntrospection.getScanner(resumed).visit(s, ctx));
+        assertThat(resumed.getReachableTypeNames()).isEqualTo(wholeIntrospection.getReachableTypeNames());
+    }
+
+    private static TypeRequiresIntrospection.Accumulator scanIntrospection(TypeRequiresIntrospection recipe, List<SourceFile> sourceFiles, ExecutionContext ctx) {
+        TypeRequiresIntrospection.Accumulator acc = recipe.getInitialValue(ctx);
+        sourceFiles.forEach(s -> recipe.getScanner(acc).visit(s, ctx));
+        return acc;
+    }
+
+    private static CopyNonInheritedAnnotations.Accumulator scanAnnotations(CopyNonInheritedAnnotations recipe, List<SourceFile> sourceFiles, ExecutionContext ctx) {
+        CopyNonInheritedAnnotations.Accumulator acc = recipe.getInitialValue(ctx);
+        sourceFiles.forEach(s -> recipe.getScanner(acc).visit(s, ctx));
+        return acc;
+    }
+}
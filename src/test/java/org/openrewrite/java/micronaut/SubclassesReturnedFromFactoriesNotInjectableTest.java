@@ -117,6 +117,60 @@ class SubclassesReturnedFromFactoriesNotInjectableTest implements RewriteTest {
         );
     }
 
+    @Test
+    void onlyFactoryClassesAreChanged() {
+        rewriteRun(
+          java(
+            """
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.ForkJoinPool;
+              import javax.inject.Singleton;
+              import io.micronaut.context.annotation.Factory;
+
+              @Factory
+              class ExecutorFactory {
+
+                  @Singleton
+                  public ExecutorService executorService() {
+                      return ForkJoinPool.commonPool();
+                  }
+              }
+
+              class ExecutorHolder {
+
+                  @Singleton
+                  public ExecutorService executorService() {
+                      return ForkJoinPool.commonPool();
+                  }
+              }
+              """,
+            """
+              import java.util.concurrent.ExecutorService;
+              import java.util.concurrent.ForkJoinPool;
+              import javax.inject.Singleton;
+              import io.micronaut.context.annotation.Factory;
+
+              @Factory
+              class ExecutorFactory {
+
+                  @Singleton
+                  public ForkJoinPool executorService() {
+                      return ForkJoinPool.commonPool();
+                  }
+              }
+
+              class ExecutorHolder {
+
+                  @Singleton
+                  public ExecutorService executorService() {
+                      return ForkJoinPool.commonPool();
+                  }
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void addsTypeForInternalImplementationJakarta() {
         rewriteRun(
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.micronaut;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+
+import java.util.Collections;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeHierarchyIndexTest {
+
+    @Test
+    void sameNameInAnotherModuleHasItsOwnAncestors() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        JavaType.FullyQualified first = firstClassType(ctx,
+          "package a; public class Foo extends Bar {}",
+          "package a; public class Bar implements java.io.Serializable {}");
+        JavaType.FullyQualified second = firstClassType(ctx,
+          "package a; public class Foo {}");
+
+        TypeHierarchyIndex index = TypeHierarchyIndex.get(ctx);
+        assertThat(index.isSubtypeOf(first, "a.Bar")).isTrue();
+        assertThat(index.ancestorNames(first)).contains("a.Bar", "java.io.Serializable");
+        assertThat(index.isSubtypeOf(second, "a.Bar")).isFalse();
+        assertThat(index.hasAncestorIn(second, Collections.singleton("java.io.Serializable"))).isFalse();
+        assertThat(index.isSubtypeOf(first, "a.Bar")).isTrue();
+    }
+
+    @Test
+    void includesInterfacesInheritedThroughOtherInterfaces() {
+        ExecutionContext ctx = new InMemoryExecutionContext(Throwable::printStackTrace);
+        JavaType.FullyQualified type = firstClassType(ctx,
+          "package a; public class Foo extends Bar {}",
+          "package a; public class Bar implements Baz {}",
+          "package a; public interface Baz extends Qux {}",
+          "package a; public interface Qux {}");
+
+        TypeHierarchyIndex index = TypeHierarchyIndex.get(ctx);
+        assertThat(index.ancestorNames(type)).contains("a.Bar", "a.Baz", "a.Qux");
+        assertThat(index.hasAncestorIn(type, Collections.singleton("a.Qux"))).isTrue();
+    }
+
+    @Test
+    void keepsAtMostTheMaximumNumberOfClosures() {
+        TypeHierarchyIndex index = TypeHierarchyIndex.get(new InMemoryExecutionContext());
+        for (int i = 0; i <= TypeHierarchyIndex.MAX_CACHED_TYPES; i++) {
+            assertThat(index.isSubtypeOf(JavaType.ShallowClass.build("a.T" + i), "a.Bar")).isFalse();
+            assertThat(index.cachedTypes()).isLessThanOrEqualTo(TypeHierarchyIndex.MAX_CACHED_TYPES);
+        }
+    }
+
+    private static JavaType.FullyQualified firstClassType(ExecutionContext ctx, String... sources) {
+        J.CompilationUnit cu = (J.CompilationUnit) JavaParser.fromJavaVersion().build()
+          .parse(ctx, sources)
+          .findFirst()
+          .orElseThrow(IllegalStateException::new);
+        return requireNonNull(cu.getClasses().get(0).getType());
+    }
+}
@@ -20,9 +20,13 @@ import org.junit.jupiter.api.Test;
 import org.openrewrite.DocumentExample;
 import org.openrewrite.InMemoryExecutionContext;
 import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.micronaut.table.AccumulatorSizes;
 import org.openrewrite.test.RecipeSpec;
 import org.openrewrite.test.RewriteTest;
 
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.openrewrite.java.Assertions.java;
 
 class TypeRequiresIntrospectionTest implements RewriteTest {
@@ -104,6 +108,41 @@ class TypeRequiresIntrospectionTest implements RewriteTest {
         );
     }
 
+    @Test
+    void reportsAccumulatorSize() {
+        //language=java
+        rewriteRun(
+          spec -> spec.dataTable(AccumulatorSizes.Row.class, rows -> assertThat(rows).singleElement().satisfies(row -> {
+              assertThat(row.getRecipe()).isEqualTo("org.openrewrite.java.micronaut.TypeRequiresIntrospection");
+              assertThat(row.getEntries()).isPositive();
+              assertThat(row.getEstimatedRetainedBytes()).isPositive();
+              assertThat(row.isOverThreshold()).isFalse();
+          })),
+          java(controllerClass),
+          java(pojoD),
+          java(
+            """
+              package a.b;
+              public class C {
+                  String name;
+                  String getName() { return name;}
+              }
+              """,
+            """
+              package a.b;
+
+              import io.micronaut.core.annotation.Introspected;
+
+              @Introspected
+              public class C {
+                  String name;
+                  String getName() { return name;}
+              }
+              """
+          )
+        );
+    }
+
     @Test
     void hasIntrospectionAnnotation() {
         //language=java
@@ -379,4 +418,95 @@ class TypeRequiresIntrospectionTest implements RewriteTest {
           )
         );
     }
+
+    @Test
+    void addsIntrospectionAnnotationToReachableTypes() {
+        //language=java
+        rewriteRun(
+          java(
+            """
+              package a.b;
+              import io.micronaut.http.annotation.Controller;
+              import io.micronaut.http.annotation.Get;
+              
+              @Controller
+              public class OrderController {
+                  @Get
+                  public Order getOrder() {
+                      return null;
+                  }
+              }
+              """
+          ),
+          java(
+            """
+              package a.b;
+              import java.util.List;
+              
+              public class Order {
+                  Customer customer;
+                  List<Line> lines;
+                  Order parent;
+              }
+              """,
+            """
+              package a.b;
+              import io.micronaut.core.annotation.Introspected;
+              
+              import java.util.List;
+              
+              @Introspected
+              public class Order {
+                  Customer customer;
+                  List<Line> lines;
+                  Order parent;
+              }
+              """
+          ),
+          java(
+            """
+              package a.b;
+              
+              public class Customer {
+              }
+              """,
+            """
+              package a.b;
+              
+              import io.micronaut.core.annotation.Introspected;
+              
+              @Introspected
+              public class Customer {
+              }
+              """
+          ),
+          java(
+            """
+              package a.b;
+              
+              public class Line {
+              }
+              """,
+            """
+              package a.b;
+              
+              import io.micronaut.core.annotation.Introspected;
+              
+              @Introspected
+              public class Line {
+              }
+              """
+          )
+        );
+    }
+
+    @Test
+    void keepsReferencesOfTypesDeclaredInSeveralModules() {
+        TypeRequiresIntrospection.Accumulator acc = new TypeRequiresIntrospection.Accumulator();
+        acc.addIntrospectableTypeNames(Collections.singleton("a.b.Order"));
+        acc.addReferencedTypeNames("a.b.Order", Collections.singleton("a.b.Customer"));
+        acc.addReferencedTypeNames("a.b.Order", Collections.singleton("a.b.Line"));
+
+        assertThat(acc.getReachableTypeNames()).containsExactlyInAnyOrder("a.b.Order", "a.b.Customer", "a.b.Line");
+    }
 }